@@ -0,0 +1,39 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.List;
+
+/**
+ * Produces the synthetic puzzle inputs used by the benchmarks.
+ *
+ * Benchmarks are parameterised by input size, but there is only one real input per day,
+ * and stretching it by repeating its records changes the shape of the data (duplicated
+ * points, repeated ranges, broken loops). Every benchmark therefore generates its input
+ * with the day's {@link InputGenerator}, which keeps the format and the statistics of the
+ * real puzzle at any size.
+ *
+ * A fixed seed is used, so every fork and every run measures exactly the same input;
+ * set the {@value #SEED_PROPERTY} system property to benchmark a different one.
+ */
+public final class BenchmarkInputs {
+    /**
+     * System property overriding the seed of the generated inputs.
+     */
+    public static final String SEED_PROPERTY = "aoc.benchmark.seed";
+
+    private static final long DEFAULT_SEED = 2025L;
+
+    private BenchmarkInputs() {}
+
+    /**
+     * Generates the raw lines of a synthetic puzzle input.
+     *
+     * @param generator the generator of the benchmarked day
+     * @param size the size of the input, in the unit documented by the generator
+     * @return the generated lines
+     */
+    public static List<String> generate(InputGenerator generator, int size) {
+        return generator.generate(size, Long.getLong(SEED_PROPERTY, DEFAULT_SEED));
+    }
+}
@@ -0,0 +1,33 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * Accepts the standard JMH command line (benchmark regex, -p size=..., -f, -wi, ...)
+ * and always attaches the GC profiler, so every result reports the allocation rate
+ * next to throughput and average time.
+ *
+ * Example usage:
+ * <pre>
+ * mvn -Pbenchmark package
+ * java -jar target/benchmarks.jar Day08 -p size=1000
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
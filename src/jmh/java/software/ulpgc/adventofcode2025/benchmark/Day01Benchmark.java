@@ -0,0 +1,83 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day01.Day01Generator;
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+import software.ulpgc.adventofcode2025.days.day01.service.MultiDialEngine;
+import software.ulpgc.adventofcode2025.days.day01.service.PasswordProcessor;
+import software.ulpgc.adventofcode2025.days.day01.strategy.AdvancedStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 01 password strategies.
+ *
+ * The size is the number of rotation instructions fed to the dial. The multi-dial
+ * benchmarks run the same instructions on {@value #DIALS} dials, once as separate
+ * Dial objects and once through the array-based MultiDialEngine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day01Benchmark {
+    private static final int DIALS = 256;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<String> rotations;
+    private int[] starts;
+
+    @Setup
+    public void setUp() {
+        rotations = BenchmarkInputs.generate(new Day01Generator(), size);
+        starts = new int[DIALS];
+        for (int i = 0; i < DIALS; i++) starts[i] = i % Dial.SIZE;
+    }
+
+    @Benchmark
+    public long basicStrategy() {
+        return new PasswordProcessor(new BasicStrategy()).solve(rotations);
+    }
+
+    @Benchmark
+    public long advancedStrategy() {
+        return new PasswordProcessor(new AdvancedStrategy()).solve(rotations);
+    }
+
+    @Benchmark
+    public long arithmeticStrategy() {
+        return new PasswordProcessor(new ArithmeticStrategy()).solve(rotations);
+    }
+
+    @Benchmark
+    public long arithmeticStrategyParallel() {
+        return new PasswordProcessor(new ArithmeticStrategy()).solveParallel(rotations);
+    }
+
+    @Benchmark
+    public long multiDialObjects() {
+        long crossings = 0;
+        for (int start : starts) {
+            Dial dial = new Dial(start);
+            ArithmeticStrategy strategy = new ArithmeticStrategy();
+            for (String rotation : rotations) crossings += dial.rotate(rotation, strategy);
+        }
+        return crossings;
+    }
+
+    @Benchmark
+    public long multiDialEngine() {
+        MultiDialEngine engine = MultiDialEngine.withStandardDials(starts);
+        engine.rotateAll(rotations);
+        long crossings = 0;
+        for (int i = 0; i < DIALS; i++) crossings += engine.crossings(i);
+        return crossings;
+    }
+}
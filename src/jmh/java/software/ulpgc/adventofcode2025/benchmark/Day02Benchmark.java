@@ -0,0 +1,84 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day02.Day02Generator;
+import software.ulpgc.adventofcode2025.days.day02.Day02Mapper;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.RepeatedIdIndex;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.SimpleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticMultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticSimpleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.service.IdProcessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 02 ID rules and range evaluators.
+ *
+ * The size is the number of ID ranges scanned. The String-based and arithmetic rules
+ * visit the same IDs, so comparing their gc.alloc.rate.norm shows the allocations the
+ * String conversions cost per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day02Benchmark {
+    @Param({"10", "50", "200"})
+    private int size;
+
+    private List<String> ranges;
+    private RepeatedIdIndex multipleIndex;
+
+    @Setup
+    public void setUp() {
+        ranges = new Day02Mapper().map(BenchmarkInputs.generate(new Day02Generator(), size));
+        // Built once per trial: the index is meant to be shared by many queries
+        multipleIndex = RepeatedIdIndex.multiple();
+    }
+
+    @Benchmark
+    public long simpleRepeatRule() {
+        return new IdProcessor(new SimpleRepeatRule()).solve(ranges);
+    }
+
+    @Benchmark
+    public long multipleRepeatRule() {
+        return new IdProcessor(new MultipleRepeatRule()).solve(ranges);
+    }
+
+    @Benchmark
+    public long arithmeticSimpleRepeatRule() {
+        return new IdProcessor(new ArithmeticSimpleRepeatRule()).solve(ranges);
+    }
+
+    @Benchmark
+    public long arithmeticMultipleRepeatRule() {
+        return new IdProcessor(new ArithmeticMultipleRepeatRule()).solve(ranges);
+    }
+
+    @Benchmark
+    public long arithmeticMultipleRepeatRuleParallel() {
+        return new IdProcessor(new ArithmeticMultipleRepeatRule()).solveParallel(ranges);
+    }
+
+    @Benchmark
+    public long simpleRepeatEvaluator() {
+        return new IdProcessor(new SimpleRepeatEvaluator()).solve(ranges);
+    }
+
+    @Benchmark
+    public long multipleRepeatEvaluator() {
+        return new IdProcessor(new MultipleRepeatEvaluator()).solve(ranges);
+    }
+
+    @Benchmark
+    public long multipleRepeatIndex() {
+        return new IdProcessor(multipleIndex).solve(ranges);
+    }
+}
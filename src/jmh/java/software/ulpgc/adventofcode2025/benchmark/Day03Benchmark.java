@@ -0,0 +1,146 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.core.MappedInput;
+import software.ulpgc.adventofcode2025.days.day03.Day03Generator;
+import software.ulpgc.adventofcode2025.days.day03.domain.BankSelections;
+import software.ulpgc.adventofcode2025.days.day03.domain.MaxDigitTable;
+import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
+import software.ulpgc.adventofcode2025.days.day03.service.BankProcessor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 03 bank rules.
+ *
+ * The size is the number of battery banks evaluated. The long-bank benchmarks join
+ * every 100 generated banks into one bank of 10000 digits and select 18 of them, the
+ * case where the single pass of the monotonic stack beats the window scans.
+ *
+ * The all-lengths benchmarks evaluate every long bank for each length from 1 to 18,
+ * rescanning the windows, answering them from one sparse table per bank, running the
+ * monotonic stack once per length, or computing every length in one pass.
+ *
+ * The mapped benchmarks write the banks to a temporary file and evaluate it through
+ * MappedInput, sequentially or in parallel chunks, without a String per bank.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day03Benchmark {
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private static final int LONG_BANK_JOIN = 100;
+    private static final int LONG_BANK_SELECTION = 18;
+
+    private List<String> banks;
+    private List<String> longBanks;
+
+    private Path file;
+    private MappedInput mapped;
+
+    @Setup
+    public void setUp() throws IOException {
+        banks = BenchmarkInputs.generate(new Day03Generator(), size);
+        file = Files.write(Files.createTempFile("day03", ".txt"), banks);
+        mapped = MappedInput.open(file);
+        longBanks = new ArrayList<>();
+        for (int i = 0; i + LONG_BANK_JOIN <= banks.size(); i += LONG_BANK_JOIN) {
+            longBanks.add(String.join("", banks.subList(i, i + LONG_BANK_JOIN)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long simpleBankRule() {
+        return new BankProcessor(new SimpleBankRule()).solve(banks);
+    }
+
+    @Benchmark
+    public long advancedBankRule() {
+        return new BankProcessor(new AdvancedBankRule()).solve(banks);
+    }
+
+    @Benchmark
+    public long monotonicStackBankRule() {
+        return new BankProcessor(new MonotonicStackBankRule()).solve(banks);
+    }
+
+    @Benchmark
+    public long advancedBankRuleLongBanks() {
+        return new BankProcessor(new AdvancedBankRule(LONG_BANK_SELECTION)).solve(longBanks);
+    }
+
+    @Benchmark
+    public long monotonicStackBankRuleLongBanks() {
+        return new BankProcessor(new MonotonicStackBankRule(LONG_BANK_SELECTION)).solve(longBanks);
+    }
+
+    @Benchmark
+    public long advancedBankRuleAllLengths() {
+        long sum = 0;
+        for (String bank : longBanks) {
+            for (int length = 1; length <= LONG_BANK_SELECTION; length++) {
+                sum += new AdvancedBankRule(length).evaluate(bank);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long advancedBankRuleAllLengthsSparseTable() {
+        long sum = 0;
+        for (String bank : longBanks) {
+            MaxDigitTable table = MaxDigitTable.of(bank);
+            for (int length = 1; length <= LONG_BANK_SELECTION; length++) {
+                sum += new AdvancedBankRule(length).evaluate(table);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long monotonicStackBankRuleAllLengths() {
+        long sum = 0;
+        for (String bank : longBanks) {
+            for (int length = 1; length <= LONG_BANK_SELECTION; length++) {
+                sum += new MonotonicStackBankRule(length).evaluate(bank);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bankSelectionsAllLengths() {
+        long sum = 0;
+        for (String bank : longBanks) {
+            for (long value : BankSelections.of(bank).values()) sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long advancedBankRuleMapped() {
+        return new BankProcessor(new AdvancedBankRule()).solve(mapped);
+    }
+
+    @Benchmark
+    public long advancedBankRuleMappedParallel() {
+        return new BankProcessor(new AdvancedBankRule()).solveParallel(mapped);
+    }
+}
@@ -0,0 +1,52 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day04.Day04Generator;
+import software.ulpgc.adventofcode2025.days.day04.Day04Mapper;
+import software.ulpgc.adventofcode2025.days.day04.rule.AdvancedRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.rule.BasicRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.rule.WorklistRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.service.GridProcessor;
+import software.ulpgc.adventofcode2025.utils.GridUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 04 removal rules.
+ *
+ * The size is the side of the square grid of paper rolls.
+ * Removal rules modify the grid in place, so every invocation works on a fresh copy
+ * and the cost of that copy is part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day04Benchmark {
+    @Param({"50", "150", "500"})
+    private int size;
+
+    private char[][] grid;
+
+    @Setup
+    public void setUp() {
+        grid = new Day04Mapper().map(BenchmarkInputs.generate(new Day04Generator(), size));
+    }
+
+    @Benchmark
+    public long basicRemovalRule() {
+        return new GridProcessor(new BasicRemovalRule()).solve(GridUtils.copy(grid));
+    }
+
+    @Benchmark
+    public long advancedRemovalRule() {
+        return new GridProcessor(new AdvancedRemovalRule(new BasicRemovalRule())).solve(GridUtils.copy(grid));
+    }
+
+    @Benchmark
+    public long worklistRemovalRule() {
+        return new GridProcessor(new WorklistRemovalRule()).solve(GridUtils.copy(grid));
+    }
+}
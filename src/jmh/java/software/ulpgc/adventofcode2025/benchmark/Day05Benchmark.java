@@ -0,0 +1,45 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day05.Day05Generator;
+import software.ulpgc.adventofcode2025.days.day05.Day05Mapper;
+import software.ulpgc.adventofcode2025.days.day05.analyzer.StockFreshnessChecker;
+import software.ulpgc.adventofcode2025.days.day05.analyzer.TotalFreshCapacityEstimator;
+import software.ulpgc.adventofcode2025.days.day05.domain.Day05Data;
+import software.ulpgc.adventofcode2025.days.day05.service.InventoryProcessor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 05 inventory analyzers.
+ *
+ * The size is the number of ingredient IDs; the generator adds one fresh range
+ * for every five IDs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day05Benchmark {
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Day05Data data;
+
+    @Setup
+    public void setUp() {
+        data = new Day05Mapper().map(BenchmarkInputs.generate(new Day05Generator(), size));
+    }
+
+    @Benchmark
+    public long stockFreshnessChecker() {
+        return new InventoryProcessor(new StockFreshnessChecker()).analyze(data);
+    }
+
+    @Benchmark
+    public long totalFreshCapacityEstimator() {
+        return new InventoryProcessor(new TotalFreshCapacityEstimator()).analyze(data);
+    }
+}
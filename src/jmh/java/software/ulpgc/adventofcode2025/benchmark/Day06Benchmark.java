@@ -0,0 +1,43 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day06.Day06Generator;
+import software.ulpgc.adventofcode2025.days.day06.analyzer.ReverseVerticalAnalyzer;
+import software.ulpgc.adventofcode2025.days.day06.analyzer.StandardColumnAnalyzer;
+import software.ulpgc.adventofcode2025.days.day06.service.MathWorksheetProcessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 06 worksheet analyzers.
+ *
+ * The size is the number of problems laid out side by side on the worksheet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day06Benchmark {
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<String> worksheet;
+
+    @Setup
+    public void setUp() {
+        worksheet = BenchmarkInputs.generate(new Day06Generator(), size);
+    }
+
+    @Benchmark
+    public long standardColumnAnalyzer() {
+        return new MathWorksheetProcessor(new StandardColumnAnalyzer()).solve(worksheet);
+    }
+
+    @Benchmark
+    public long reverseVerticalAnalyzer() {
+        return new MathWorksheetProcessor(new ReverseVerticalAnalyzer()).solve(worksheet);
+    }
+}
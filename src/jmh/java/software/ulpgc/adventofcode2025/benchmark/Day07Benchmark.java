@@ -0,0 +1,43 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day07.Day07Generator;
+import software.ulpgc.adventofcode2025.days.day07.analyzer.BeamSplitCounter;
+import software.ulpgc.adventofcode2025.days.day07.analyzer.QuantumTimelineEstimator;
+import software.ulpgc.adventofcode2025.days.day07.service.ManifoldProcessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 07 manifold analyzers.
+ *
+ * The size is the side of the square manifold, beam source row included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day07Benchmark {
+    @Param({"50", "150", "500"})
+    private int size;
+
+    private List<String> manifold;
+
+    @Setup
+    public void setUp() {
+        manifold = BenchmarkInputs.generate(new Day07Generator(), size);
+    }
+
+    @Benchmark
+    public long beamSplitCounter() {
+        return new ManifoldProcessor(new BeamSplitCounter()).solve(manifold);
+    }
+
+    @Benchmark
+    public long quantumTimelineEstimator() {
+        return new ManifoldProcessor(new QuantumTimelineEstimator()).solve(manifold);
+    }
+}
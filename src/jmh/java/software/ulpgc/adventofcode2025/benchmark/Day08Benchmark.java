@@ -0,0 +1,46 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day08.Day08Generator;
+import software.ulpgc.adventofcode2025.days.day08.Day08Mapper;
+import software.ulpgc.adventofcode2025.days.day08.analyzer.AdvanceCircuitAnalyzer;
+import software.ulpgc.adventofcode2025.days.day08.analyzer.BasicCircuitAnalyzer;
+import software.ulpgc.adventofcode2025.days.day08.domain.Day08Data;
+import software.ulpgc.adventofcode2025.days.day08.service.CircuitProcessor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 08 circuit analyzers.
+ *
+ * The size is the number of junction boxes. Generated boxes never share a position,
+ * because duplicated positions would add zero-length connections that the real
+ * puzzle never contains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day08Benchmark {
+    @Param({"250", "1000", "2000"})
+    private int size;
+
+    private Day08Data data;
+
+    @Setup
+    public void setUp() {
+        data = new Day08Mapper().map(BenchmarkInputs.generate(new Day08Generator(), size));
+    }
+
+    @Benchmark
+    public long basicCircuitAnalyzer() {
+        return new CircuitProcessor(new BasicCircuitAnalyzer()).solve(data);
+    }
+
+    @Benchmark
+    public long advanceCircuitAnalyzer() {
+        return new CircuitProcessor(new AdvanceCircuitAnalyzer()).solve(data);
+    }
+}
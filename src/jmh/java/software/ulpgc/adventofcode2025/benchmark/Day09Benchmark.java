@@ -0,0 +1,45 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day09.Day09Generator;
+import software.ulpgc.adventofcode2025.days.day09.Day09Mapper;
+import software.ulpgc.adventofcode2025.days.day09.analyzer.LoopRectangleAnalyzer;
+import software.ulpgc.adventofcode2025.days.day09.analyzer.MaxRectangleAnalyzer;
+import software.ulpgc.adventofcode2025.days.day09.domain.Tile;
+import software.ulpgc.adventofcode2025.days.day09.service.GridProcessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 09 rectangle analyzers.
+ *
+ * The size is the number of red tiles forming the loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day09Benchmark {
+    @Param({"100", "250", "500"})
+    private int size;
+
+    private List<Tile> tiles;
+
+    @Setup
+    public void setUp() {
+        tiles = new Day09Mapper().map(BenchmarkInputs.generate(new Day09Generator(), size));
+    }
+
+    @Benchmark
+    public long maxRectangleAnalyzer() {
+        return new GridProcessor(new MaxRectangleAnalyzer()).solve(tiles);
+    }
+
+    @Benchmark
+    public long loopRectangleAnalyzer() {
+        return new GridProcessor(new LoopRectangleAnalyzer()).solve(tiles);
+    }
+}
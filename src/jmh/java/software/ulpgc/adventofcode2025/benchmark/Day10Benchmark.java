@@ -0,0 +1,46 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day10.Day10Generator;
+import software.ulpgc.adventofcode2025.days.day10.Day10Mapper;
+import software.ulpgc.adventofcode2025.days.day10.domain.Machine;
+import software.ulpgc.adventofcode2025.days.day10.service.MachineProcessor;
+import software.ulpgc.adventofcode2025.days.day10.solver.JoltageSolver;
+import software.ulpgc.adventofcode2025.days.day10.solver.LightConfigurationSolver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 10 machine solvers.
+ *
+ * The size is the number of machines configured. A new solver is created on every
+ * invocation, so the memoization of JoltageSolver never carries over between calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day10Benchmark {
+    @Param({"5", "10", "25"})
+    private int size;
+
+    private List<Machine> machines;
+
+    @Setup
+    public void setUp() {
+        machines = new Day10Mapper().map(BenchmarkInputs.generate(new Day10Generator(), size));
+    }
+
+    @Benchmark
+    public long lightConfigurationSolver() {
+        return new MachineProcessor(new LightConfigurationSolver()).solve(machines);
+    }
+
+    @Benchmark
+    public long joltageSolver() {
+        return new MachineProcessor(new JoltageSolver()).solve(machines);
+    }
+}
@@ -0,0 +1,47 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day11.Day11Generator;
+import software.ulpgc.adventofcode2025.days.day11.Day11Mapper;
+import software.ulpgc.adventofcode2025.days.day11.domain.ReactorMap;
+import software.ulpgc.adventofcode2025.days.day11.service.ReactorProcessor;
+import software.ulpgc.adventofcode2025.days.day11.solver.MandatoryNodeSolver;
+import software.ulpgc.adventofcode2025.days.day11.solver.SimplePathSolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 11 reactor solvers.
+ *
+ * The size is the number of devices in the generated network. A new solver is
+ * created on every invocation, so memoized path counts never carry over between calls.
+ * The network is a deep chain and the solvers recurse along it, so the fork runs with
+ * a larger thread stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class Day11Benchmark {
+    @Param({"100", "500", "1000"})
+    private int size;
+
+    private ReactorMap map;
+
+    @Setup
+    public void setUp() {
+        map = new Day11Mapper().map(BenchmarkInputs.generate(new Day11Generator(), size));
+    }
+
+    @Benchmark
+    public long simplePathSolver() {
+        return new ReactorProcessor(new SimplePathSolver()).solve(map);
+    }
+
+    @Benchmark
+    public long mandatoryNodeSolver() {
+        return new ReactorProcessor(new MandatoryNodeSolver()).solve(map);
+    }
+}
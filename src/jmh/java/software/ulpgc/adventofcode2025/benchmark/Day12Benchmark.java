@@ -0,0 +1,39 @@
+package software.ulpgc.adventofcode2025.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.adventofcode2025.days.day12.Day12Generator;
+import software.ulpgc.adventofcode2025.days.day12.Day12Mapper;
+import software.ulpgc.adventofcode2025.days.day12.domain.PuzzleData;
+import software.ulpgc.adventofcode2025.days.day12.service.PackingProcessor;
+import software.ulpgc.adventofcode2025.days.day12.strategy.BacktrackingFittingStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Day 12 fitting strategy.
+ *
+ * The size is the number of regions to pack. A new processor is created on every
+ * invocation, so its cache of shape variations is rebuilt each time, as in a normal run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day12Benchmark {
+    @Param({"100", "250", "1000"})
+    private int size;
+
+    private PuzzleData data;
+
+    @Setup
+    public void setUp() {
+        data = new Day12Mapper().map(BenchmarkInputs.generate(new Day12Generator(), size));
+    }
+
+    @Benchmark
+    public long backtrackingFittingStrategy() {
+        return new PackingProcessor(new BacktrackingFittingStrategy()).solve(data);
+    }
+}
@@ -0,0 +1,77 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Utility class for writing small binary files that are replaced as a whole.
+ *
+ * Snapshots, cached results and checkpoints are all rewritten while other threads or
+ * later runs may read them, so a reader must never see a half-written file. Every file
+ * starts with a header made of a magic number, identifying the kind of file, and a
+ * format version; the body follows. The file is written to a temporary file in the
+ * same directory first and then moved over the target in one step.
+ *
+ * The move is atomic when the file system supports it. Otherwise the temporary file
+ * replaces the target with a plain move, which still never leaves a truncated file
+ * under the final name, but may briefly leave no file at all.
+ */
+public final class AtomicFiles {
+
+    /**
+     * Writes the body of a binary file, after its header.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * Writes the body to the output stream.
+         *
+         * @param out the stream receiving the bytes, positioned after the header
+         * @throws IOException if the stream cannot be written
+         */
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {}
+
+    /**
+     * Writes a binary file with a header, replacing any previous file atomically.
+     *
+     * The parent directory is created if it does not exist yet. If writing the body
+     * fails, the previous file is left untouched and the temporary file is deleted.
+     *
+     * @param file the file to write
+     * @param magic the marker written first, identifying the kind of file
+     * @param version the format version, written after the marker
+     * @param content writes the body of the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, int magic, int version, Content content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(magic);
+                out.writeInt(version);
+                content.writeTo(out);
+            }
+            move(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void move(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
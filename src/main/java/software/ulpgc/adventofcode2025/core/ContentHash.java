@@ -0,0 +1,60 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for computing content hashes of input files.
+ *
+ * Hashes identify an input by what it contains rather than by its name, so two
+ * copies of the same puzzle input share cached artefacts, and any edit to a file
+ * invalidates them. SHA-256 is used and the digest is returned as lowercase hex.
+ */
+public class ContentHash {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private ContentHash() {}
+
+    /**
+     * Computes the SHA-256 hash of a file, reading it in fixed-size chunks.
+     *
+     * @param file the file to hash
+     * @return the hex-encoded digest of the file contents
+     * @throws IOException if the file cannot be read
+     */
+    public static String of(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-256 hash of an in-memory byte array.
+     *
+     * @param content the bytes to hash
+     * @return the hex-encoded digest of the bytes
+     */
+    public static String of(byte[] content) {
+        return HexFormat.of().formatHex(sha256().digest(content));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
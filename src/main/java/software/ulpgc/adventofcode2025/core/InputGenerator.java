@@ -0,0 +1,45 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Strategy interface for producing synthetic puzzle inputs of any size.
+ *
+ * Each day's generator emits lines in exactly the format its {@link InputMapper}
+ * reads, so generated inputs can go through the same mapping and solving code as
+ * the real puzzle files. Generation is deterministic: the same size and seed always
+ * produce the same lines, which keeps scale tests and benchmarks reproducible.
+ *
+ * The meaning of the size depends on the day (rotations, grid side, polygon vertices...)
+ * and is documented by every implementation.
+ */
+@FunctionalInterface
+public interface InputGenerator {
+
+    /**
+     * Generates an input, handing each line to the consumer as soon as it is produced.
+     *
+     * Pushing lines instead of returning them lets callers write inputs far larger
+     * than the heap straight to a file.
+     *
+     * @param size the size of the input, in the unit documented by the implementation
+     * @param seed the seed of the random generator
+     * @param lines receives the generated lines, in order
+     */
+    void generate(int size, long seed, Consumer<String> lines);
+
+    /**
+     * Generates an input and collects its lines in memory.
+     *
+     * @param size the size of the input, in the unit documented by the implementation
+     * @param seed the seed of the random generator
+     * @return the generated lines
+     */
+    default List<String> generate(int size, long seed) {
+        List<String> lines = new ArrayList<>();
+        generate(size, seed, lines::add);
+        return lines;
+    }
+}
@@ -1,9 +1,11 @@
 package software.ulpgc.adventofcode2025.core;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Utility class for reading and processing input files into domain objects.
@@ -17,6 +19,7 @@ import java.util.List;
  */
 public class InputProvider {
     private final String basePath;
+    private final SnapshotCache snapshots;
 
     /**
      * Constructs an InputProvider with a base directory path for input files.
@@ -28,7 +31,21 @@ public class InputProvider {
      *                 (e.g., "src/main/resources/inputs")
      */
     public InputProvider(String basePath) {
+        this(basePath, SnapshotCache.fromSystemProperty());
+    }
+
+    /**
+     * Constructs an InputProvider that caches parsed inputs in the given snapshot cache.
+     *
+     * The cache is only used by {@link #provide(String, InputMapper, SnapshotCodec)};
+     * passing null disables it.
+     *
+     * @param basePath the base directory path where input files are located
+     * @param snapshots the snapshot cache to use, or null to always parse
+     */
+    public InputProvider(String basePath, SnapshotCache snapshots) {
         this.basePath = basePath;
+        this.snapshots = snapshots;
     }
 
     /**
@@ -39,6 +56,10 @@ public class InputProvider {
      * 2. Delegates the transformation of lines to the provided InputMapper
      * 3. Returns the resulting domain object
      *
+     * If the mapper is a {@link StreamingInputMapper}, the file is not read up front:
+     * its lines are streamed lazily through a buffered reader, so the mapper can fold
+     * inputs larger than the heap in constant memory.
+     *
      * The generic type parameter allows this method to work with any domain type,
      * providing type safety while maintaining flexibility across different puzzle inputs.
      *
@@ -56,6 +77,9 @@ public class InputProvider {
      * @throws RuntimeException if the file cannot be read (wraps IOException with context)
      */
     public <T> T provide(String fileName, InputMapper<T> mapper) {
+        if (mapper instanceof StreamingInputMapper<T> streamingMapper) {
+            return provideStreaming(fileName, streamingMapper);
+        }
         try {
             // Read all lines from the file
             List<String> lines = Files.readAllLines(Path.of(basePath, fileName));
@@ -67,4 +91,116 @@ public class InputProvider {
             throw new RuntimeException("Impossible to read the file: " + fileName, e);
         }
     }
+
+    /**
+     * Reads the raw lines of an input file without mapping them.
+     *
+     * Useful when reading and parsing must be observed separately, for example to
+     * time each phase; the lines can then be passed to any {@link InputMapper}.
+     *
+     * @param fileName the name of the input file (relative to basePath)
+     * @return all the lines of the file
+     * @throws RuntimeException if the file cannot be read (wraps IOException with context)
+     */
+    public List<String> read(String fileName) {
+        try {
+            return Files.readAllLines(Path.of(basePath, fileName));
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to read the file: " + fileName, e);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of an input file's contents.
+     *
+     * @param fileName the name of the input file (relative to basePath)
+     * @return the hex-encoded content hash
+     * @throws RuntimeException if the file cannot be read (wraps IOException with context)
+     */
+    public String contentHash(String fileName) {
+        try {
+            return ContentHash.of(Path.of(basePath, fileName));
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to read the file: " + fileName, e);
+        }
+    }
+
+    /**
+     * Reads an input file through the snapshot cache, parsing it only on a cache miss.
+     *
+     * When a snapshot cache is configured, the mapped object is stored as a binary
+     * snapshot keyed by the content hash of the file and the id and version of the
+     * codec. Later calls memory-map the snapshot and decode it instead of parsing
+     * the input again. Without a cache this behaves exactly like
+     * {@link #provide(String, InputMapper)}.
+     *
+     * @param <T> the type of domain object to produce
+     * @param fileName the name of the input file (relative to basePath)
+     * @param mapper the InputMapper implementation that knows how to parse this file's format
+     * @param codec the codec used to store the mapped object in the cache
+     * @return the domain object of type T, decoded from the snapshot or freshly parsed
+     * @throws RuntimeException if the file or its snapshot cannot be accessed
+     */
+    public <T> T provide(String fileName, InputMapper<T> mapper, SnapshotCodec<T> codec) {
+        if (snapshots == null) return provide(fileName, mapper);
+        try {
+            return snapshots.load(Path.of(basePath, fileName), codec, () -> provide(fileName, mapper));
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to use the snapshot of the file: " + fileName, e);
+        }
+    }
+
+    /**
+     * Streams the lines of an input file lazily into a streaming mapper.
+     *
+     * @param <T> the type of domain object to produce
+     * @param fileName the name of the input file (relative to basePath)
+     * @param mapper the streaming mapper that consumes the lines
+     * @return the domain object of type T created by the mapper
+     * @throws RuntimeException if the file cannot be read (wraps IOException with context)
+     */
+    private <T> T provideStreaming(String fileName, StreamingInputMapper<T> mapper) {
+        // Files.lines reads through a BufferedReader, one line at a time
+        try (Stream<String> lines = Files.lines(Path.of(basePath, fileName))) {
+            return mapper.map(lines);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Impossible to read the file: " + fileName, e);
+        }
+    }
+
+    /**
+     * Memory-maps an input file and transforms it into a domain object using the provided mapper.
+     *
+     * Unlike {@link #provide(String, InputMapper)}, the file is never decoded into a list
+     * of Strings: it is mapped with {@link java.nio.channels.FileChannel#map} and the mapper
+     * walks its lines as zero-copy {@link LineSlice} views. Peak heap usage therefore does
+     * not depend on the size of the input, which makes this mode suitable for very large files.
+     *
+     * Example usage:
+     * <pre>
+     * InputProvider provider = new InputProvider("src/main/resources/inputs");
+     * long lines = provider.provideMapped("huge.txt", input -&gt; {
+     *     long[] count = {0};
+     *     input.forEachLine(line -&gt; count[0]++);
+     *     return count[0];
+     * });
+     * </pre>
+     *
+     * @param <T> the type of domain object to produce
+     * @param fileName the name of the input file (relative to basePath)
+     * @param mapper the MappedInputMapper implementation that knows how to parse this file's format
+     * @return the domain object of type T created by the mapper from the mapped file
+     * @throws RuntimeException if the file cannot be mapped (wraps IOException with context)
+     */
+    public <T> T provideMapped(String fileName, MappedInputMapper<T> mapper) {
+        try {
+            // Map the file without copying its contents onto the heap
+            MappedInput input = MappedInput.open(Path.of(basePath, fileName));
+
+            // Delegate parsing to the mapper
+            return mapper.map(input);
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to map the file: " + fileName, e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only view of a single line inside a memory-mapped input buffer.
+ *
+ * A LineSlice exposes a range of bytes as a {@link CharSequence} without copying
+ * them or decoding them into a {@link String}. Each byte is interpreted as one
+ * character (ISO-8859-1), which matches the plain ASCII puzzle inputs.
+ *
+ * Slices handed out while iterating a {@link MappedInput} are flyweights: the same
+ * instance is repositioned for every line, so a slice is only valid until the next
+ * line is requested. Call {@link #toString()} to keep a stable copy.
+ */
+public final class LineSlice implements CharSequence {
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * Creates a slice over the given buffer range.
+     *
+     * @param buffer the buffer holding the bytes of the line
+     * @param offset the absolute index of the first byte of the line
+     * @param length the number of bytes in the line (line terminator excluded)
+     */
+    public LineSlice(ByteBuffer buffer, int offset, int length) {
+        set(buffer, offset, length);
+    }
+
+    /**
+     * Repositions this slice over another range, reusing the instance.
+     *
+     * @param buffer the buffer holding the bytes of the line
+     * @param offset the absolute index of the first byte of the line
+     * @param length the number of bytes in the line
+     */
+    void set(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the buffer this slice reads from.
+     *
+     * @return the backing buffer
+     */
+    public ByteBuffer buffer() { return buffer; }
+
+    /**
+     * Returns the absolute index of the first byte of this slice in its buffer.
+     *
+     * @return the offset of the slice
+     */
+    public int offset() { return offset; }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    /**
+     * Returns a new slice covering a sub-range of this one.
+     *
+     * Unlike the flyweight slices produced during iteration, the returned slice is
+     * a fresh instance and stays valid while the buffer is reachable.
+     *
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return a slice over the requested range
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+        }
+        return new LineSlice(buffer, offset + start, end - start);
+    }
+
+    /**
+     * Checks whether the slice is empty or only contains whitespace.
+     *
+     * Mirrors {@link String#isBlank()} for the ASCII range without materialising a String.
+     *
+     * @return true if every character is whitespace
+     */
+    public boolean isBlank() {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(buffer.get(offset + i) & 0xFF)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the slice into a new String.
+     *
+     * @return a String with the same characters as this slice
+     */
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,215 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A memory-mapped input file exposed as a sequence of zero-copy line slices.
+ *
+ * The file is mapped with {@link FileChannel#map} instead of being read onto the heap,
+ * so the heap footprint does not grow with the size of the input. A single mapping is
+ * limited to {@link Integer#MAX_VALUE} bytes, so larger files are mapped as several
+ * consecutive regions, each one ending on a line boundary.
+ *
+ * Iterating the input yields {@link LineSlice} flyweights: one instance is reused for
+ * every line, so no object is created per line. Line terminators ("\n" or "\r\n") are
+ * stripped, and a trailing newline does not produce an extra empty line, matching
+ * {@link java.nio.file.Files#readAllLines(Path)}.
+ */
+public class MappedInput implements Iterable<CharSequence> {
+    private static final int MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private final List<ByteBuffer> regions;
+    private final long size;
+
+    private MappedInput(List<ByteBuffer> regions, long size) {
+        this.regions = regions;
+        this.size = size;
+    }
+
+    /**
+     * Maps the given file into memory.
+     *
+     * The channel is closed once the regions are mapped; the mappings stay valid until
+     * the buffers become unreachable.
+     *
+     * @param path the file to map
+     * @return the mapped input
+     * @throws IOException if the file cannot be mapped, or a single line is longer than a region
+     */
+    public static MappedInput open(Path path) throws IOException {
+        return open(path, MAX_REGION_SIZE);
+    }
+
+    /**
+     * Maps the given file into memory using regions of at most {@code maxRegionSize} bytes.
+     *
+     * @param path the file to map
+     * @param maxRegionSize the maximum size of a single mapped region
+     * @return the mapped input
+     * @throws IOException if the file cannot be mapped, or a single line is longer than a region
+     */
+    static MappedInput open(Path path, int maxRegionSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            long start = 0;
+
+            while (start < size) {
+                long length = Math.min(maxRegionSize, size - start);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+                // Regions must end on a line boundary so no line is split between two mappings
+                int usable = start + length < size ? lastLineEnd(mapped, (int) length) : (int) length;
+                if (usable == 0) {
+                    throw new IOException("Line longer than " + maxRegionSize + " bytes in " + path);
+                }
+
+                regions.add(mapped.slice(0, usable));
+                start += usable;
+            }
+            return new MappedInput(regions, size);
+        }
+    }
+
+    /**
+     * Returns the index just past the last newline of the buffer, or 0 if there is none.
+     */
+    private static int lastLineEnd(ByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') return i + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the total size of the mapped file in bytes.
+     *
+     * @return the file size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the mapped regions of the file, in file order.
+     *
+     * Every region ends on a line boundary, so each one can be scanned independently.
+     *
+     * @return the read-only list of mapped regions
+     */
+    public List<ByteBuffer> regions() {
+        return List.copyOf(regions);
+    }
+
+    /**
+     * Splits the input into consecutive chunks that each hold whole lines.
+     *
+     * Every region is cut into pieces of about {@code chunkSize} bytes: a piece ends just
+     * after the first newline at or past that size, so no line is split between two
+     * chunks. The chunks share the mapped memory of this input and copy nothing, so
+     * they can be handed to different threads and scanned independently.
+     *
+     * @param chunkSize the approximate size of a chunk in bytes, at least 1
+     * @return the chunks, in file order
+     */
+    public List<MappedInput> chunks(int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+
+        List<MappedInput> chunks = new ArrayList<>();
+        for (ByteBuffer region : regions) {
+            int limit = region.limit();
+            int start = 0;
+            while (start < limit) {
+                int end = (int) Math.min((long) start + chunkSize, limit);
+                if (end < limit) end = Math.min(indexOfNewline(region, end - 1, limit) + 1, limit);
+                chunks.add(new MappedInput(List.of(region.slice(start, end - start)), end - start));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Applies the action to every line of the input, reusing a single slice instance.
+     *
+     * @param action the action to apply; must not retain the slice beyond the call
+     */
+    public void forEachLine(Consumer<? super LineSlice> action) {
+        LineSlice slice = new LineSlice(null, 0, 0);
+        for (ByteBuffer region : regions) {
+            int limit = region.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = indexOfNewline(region, lineStart, limit);
+                slice.set(region, lineStart, contentLength(region, lineStart, lineEnd));
+                action.accept(slice);
+                lineStart = lineEnd + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the lines of the input.
+     *
+     * The iterator hands out the same {@link LineSlice} instance on every call to
+     * {@code next()}, repositioned over the current line.
+     *
+     * @return an iterator over flyweight line slices
+     */
+    @Override
+    public Iterator<CharSequence> iterator() {
+        return new Iterator<>() {
+            private final LineSlice slice = new LineSlice(null, 0, 0);
+            private int regionIndex = 0;
+            private int lineStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (regionIndex < regions.size() && lineStart >= regions.get(regionIndex).limit()) {
+                    regionIndex++;
+                    lineStart = 0;
+                }
+                return regionIndex < regions.size();
+            }
+
+            @Override
+            public CharSequence next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ByteBuffer region = regions.get(regionIndex);
+                int lineEnd = indexOfNewline(region, lineStart, region.limit());
+                slice.set(region, lineStart, contentLength(region, lineStart, lineEnd));
+                lineStart = lineEnd + 1;
+                return slice;
+            }
+        };
+    }
+
+    /**
+     * Finds the next newline at or after {@code from}, or {@code limit} if there is none.
+     */
+    static int indexOfNewline(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return limit;
+    }
+
+    /**
+     * Computes the length of a line, excluding a trailing carriage return.
+     */
+    private static int contentLength(ByteBuffer buffer, int lineStart, int lineEnd) {
+        int length = lineEnd - lineStart;
+        if (length > 0 && buffer.get(lineEnd - 1) == '\r') length--;
+        return length;
+    }
+}
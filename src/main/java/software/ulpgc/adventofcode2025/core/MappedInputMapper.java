@@ -0,0 +1,26 @@
+package software.ulpgc.adventofcode2025.core;
+
+/**
+ * Strategy interface for mapping a memory-mapped input file into a domain object.
+ *
+ * This is the zero-copy counterpart of {@link InputMapper}. Instead of a list of
+ * decoded Strings, implementations receive a {@link MappedInput} and walk its lines
+ * as {@link LineSlice} views over the mapped bytes. This keeps the heap footprint
+ * flat regardless of the size of the input file.
+ *
+ * Slices are reused between lines, so implementations must extract whatever they
+ * need from a line before moving on to the next one.
+ *
+ * @param <T> the type of domain object to produce from the mapped input
+ */
+public interface MappedInputMapper<T> {
+
+    /**
+     * Maps a memory-mapped input into a domain-specific object.
+     *
+     * @param input the mapped input file
+     * @return a domain object of type T constructed from the input lines
+     * @throws RuntimeException if the input cannot be parsed or is invalid
+     */
+    T map(MappedInput input);
+}
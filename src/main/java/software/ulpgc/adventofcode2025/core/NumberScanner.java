@@ -0,0 +1,281 @@
+package software.ulpgc.adventofcode2025.core;
+
+/**
+ * Reusable cursor that reads numbers and delimiters directly from a character sequence.
+ *
+ * The scanner walks the text in place: it never splits the input into arrays,
+ * never creates substrings and never runs regular expressions. Numbers are
+ * accumulated digit by digit, so reading an int, a long or a plain decimal double
+ * allocates nothing. A single instance can be reset onto a new line and reused
+ * for a whole input file.
+ *
+ * All number readers skip leading whitespace and accept an optional sign, mirroring
+ * the behaviour of {@link Long#parseLong(String)} applied to a trimmed token.
+ *
+ * Example usage:
+ * <pre>
+ * NumberScanner scanner = new NumberScanner();
+ * scanner.reset("162,817,812");
+ * double x = scanner.nextDouble();
+ * scanner.expect(',');
+ * double y = scanner.nextDouble();
+ * </pre>
+ */
+public final class NumberScanner {
+    /**
+     * Powers of ten that are exactly representable as doubles.
+     */
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Largest mantissa that converts to a double without rounding (2^53).
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private CharSequence text = "";
+    private int position;
+
+    /**
+     * Creates a scanner with no text; call {@link #reset(CharSequence)} before reading.
+     */
+    public NumberScanner() {}
+
+    /**
+     * Creates a scanner positioned at the start of the given text.
+     *
+     * @param text the text to scan
+     */
+    public NumberScanner(CharSequence text) {
+        reset(text);
+    }
+
+    /**
+     * Positions the scanner at the start of a new text, reusing this instance.
+     *
+     * @param text the text to scan
+     * @return this scanner, for chaining
+     */
+    public NumberScanner reset(CharSequence text) {
+        this.text = text;
+        this.position = 0;
+        return this;
+    }
+
+    /**
+     * Returns the index of the next character to be read.
+     *
+     * @return the current position
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Checks whether there are characters left to read.
+     *
+     * @return true if the end of the text has not been reached
+     */
+    public boolean hasRemaining() {
+        return position < text.length();
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     *
+     * @return the next character
+     * @throws IllegalStateException if the end of the text has been reached
+     */
+    public char peek() {
+        if (!hasRemaining()) throw new IllegalStateException("End of input at position " + position);
+        return text.charAt(position);
+    }
+
+    /**
+     * Consumes and returns the next character.
+     *
+     * @return the next character
+     * @throws IllegalStateException if the end of the text has been reached
+     */
+    public char next() {
+        char c = peek();
+        position++;
+        return c;
+    }
+
+    /**
+     * Skips any whitespace at the current position.
+     *
+     * @return this scanner, for chaining
+     */
+    public NumberScanner skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) position++;
+        return this;
+    }
+
+    /**
+     * Consumes the given delimiter if it is the next non-whitespace character.
+     *
+     * @param delimiter the character to consume
+     * @return true if the delimiter was found and consumed, false otherwise
+     */
+    public boolean skip(char delimiter) {
+        skipWhitespace();
+        if (position < text.length() && text.charAt(position) == delimiter) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the given delimiter, failing if it is not the next non-whitespace character.
+     *
+     * @param delimiter the character that must come next
+     * @return this scanner, for chaining
+     * @throws IllegalArgumentException if the delimiter is not found
+     */
+    public NumberScanner expect(char delimiter) {
+        if (!skip(delimiter)) {
+            throw new IllegalArgumentException("Expected '" + delimiter + "' at position " + position + " in \"" + text + "\"");
+        }
+        return this;
+    }
+
+    /**
+     * Reads the next integer.
+     *
+     * @return the parsed int
+     * @throws NumberFormatException if no digits are found or the value does not fit in an int
+     */
+    public int nextInt() {
+        int start = position;
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of int range at position " + start + " in \"" + text + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the next long integer.
+     *
+     * Digits are accumulated as a negative number, like {@link Long#parseLong(String)},
+     * so the full range including {@link Long#MIN_VALUE} is supported.
+     *
+     * @return the parsed long
+     * @throws NumberFormatException if no digits are found or the value overflows
+     */
+    public long nextLong() {
+        skipWhitespace();
+        int start = position;
+        boolean negative = readSign();
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        int digitsStart = position;
+
+        while (position < text.length()) {
+            int digit = text.charAt(position) - '0';
+            if (digit < 0 || digit > 9) break;
+            if (result < multiplyLimit) throw overflow(start);
+            result *= 10;
+            if (result < limit + digit) throw overflow(start);
+            result -= digit;
+            position++;
+        }
+
+        if (position == digitsStart) throw noDigits(start);
+        return negative ? result : -result;
+    }
+
+    /**
+     * Reads the next decimal number.
+     *
+     * A plain decimal such as "162", "-3.5" or "0.125" is converted without allocating
+     * when its digits, read as an integer with the dot removed, stay within 2^53
+     * (about 9.007e15, so up to 15 digits always and most 16-digit ones too) and it has
+     * at most 22 fraction digits. The mantissa and the power of ten are then both exact
+     * doubles, and a single division rounds the result correctly. Anything else
+     * (exponents, larger mantissas, longer fractions) falls back to
+     * {@link Double#parseDouble(String)} on that token only.
+     *
+     * @return the parsed double
+     * @throws NumberFormatException if the token is not a valid number
+     */
+    public double nextDouble() {
+        skipWhitespace();
+        int start = position;
+        boolean negative = readSign();
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+        boolean exact = true;
+
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                if (mantissa <= (MAX_EXACT_MANTISSA - 9) / 10) mantissa = mantissa * 10 + (c - '0');
+                else exact = false;
+                digits++;
+                if (dot) fractionDigits++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+            position++;
+        }
+
+        if (digits == 0) throw noDigits(start);
+
+        // Exponents and very long mantissas are left to the JDK parser
+        boolean exponent = position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E');
+        if (!exact || exponent || fractionDigits >= POW10.length) return slowDouble(start);
+
+        double value = fractionDigits == 0 ? mantissa : mantissa / POW10[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Re-reads the number token starting at {@code start} with the JDK parser.
+     */
+    private double slowDouble(int start) {
+        position = start;
+        readSign();
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            boolean sign = (c == '+' || c == '-') && (text.charAt(position - 1) == 'e' || text.charAt(position - 1) == 'E');
+            if (!(c >= '0' && c <= '9' || c == '.' || c == 'e' || c == 'E' || sign)) break;
+            position++;
+        }
+        return Double.parseDouble(text.subSequence(start, position).toString());
+    }
+
+    /**
+     * Consumes an optional leading sign.
+     *
+     * @return true if the number is negative
+     */
+    private boolean readSign() {
+        if (position < text.length()) {
+            char c = text.charAt(position);
+            if (c == '-' || c == '+') {
+                position++;
+                return c == '-';
+            }
+        }
+        return false;
+    }
+
+    private NumberFormatException noDigits(int start) {
+        return new NumberFormatException("Expected a number at position " + start + " in \"" + text + "\"");
+    }
+
+    private NumberFormatException overflow(int start) {
+        return new NumberFormatException("Value out of long range at position " + start + " in \"" + text + "\"");
+    }
+}
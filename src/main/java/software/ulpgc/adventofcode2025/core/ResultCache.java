@@ -0,0 +1,176 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Content-addressed cache of solver answers, with an in-memory and an on-disk tier.
+ *
+ * Some strategies are expensive (cubic geometry, exponential backtracking) while the
+ * same inputs are solved again and again. The cache stores each answer under a
+ * {@link ResultKey} made of the input content hash, the day, the strategy class and
+ * the strategy version, so a repeated solve returns without running the strategy.
+ *
+ * The memory tier keeps the most recently used answers up to a fixed capacity and
+ * evicts the least recently used one. The optional disk tier keeps one small file per
+ * answer, so results survive across runs; disk hits are promoted to memory.
+ *
+ * Any processor can be wrapped without changing the strategy interfaces:
+ * <pre>
+ * ResultKey key = ResultKey.of(ContentHash.of(inputFile), 9, LoopRectangleAnalyzer.class);
+ * long area = cache.solve(key, () -&gt; new GridProcessor(new LoopRectangleAnalyzer()).solve(tiles));
+ * </pre>
+ *
+ * The cache is thread-safe. Two threads missing the same key at the same time both
+ * run the solver; the answers are identical, so the duplicate store is harmless.
+ */
+public class ResultCache {
+    /**
+     * System property naming the directory of the disk tier; the cache is disabled when absent.
+     */
+    public static final String DIRECTORY_PROPERTY = "aoc.results.dir";
+
+    /**
+     * Number of answers kept in memory when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Marker written at the start of every result file ("AOCR").
+     */
+    private static final int MAGIC = 0x414F4352;
+
+    /**
+     * Version of the layout of result files, written after the marker.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<ResultKey, Long> memory;
+    private final Path directory;
+
+    /**
+     * Constructs a cache with a memory tier of the given capacity and an optional disk tier.
+     *
+     * @param capacity the maximum number of answers kept in memory
+     * @param directory the directory of the disk tier, or null to keep answers in memory only
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public ResultCache(int capacity, Path directory) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        // An access-ordered map moves every read entry to the tail, so the head is the LRU entry
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ResultKey, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a cache from the {@value #DIRECTORY_PROPERTY} system property.
+     *
+     * @return a cache backed by the configured directory, or null if the property is not set
+     */
+    public static ResultCache fromSystemProperty() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory == null || directory.isBlank() ? null : new ResultCache(DEFAULT_CAPACITY, Path.of(directory));
+    }
+
+    /**
+     * Returns the cached answer for a key, running and storing the solver on a miss.
+     *
+     * @param key the key of the answer
+     * @param solver computes the answer when it is not cached
+     * @return the cached or freshly computed answer
+     * @throws RuntimeException if the disk tier cannot be written (wraps IOException with context)
+     */
+    public long solve(ResultKey key, LongSupplier solver) {
+        OptionalLong cached = lookup(key);
+        if (cached.isPresent()) return cached.getAsLong();
+
+        long answer = solver.getAsLong();
+        store(key, answer);
+        return answer;
+    }
+
+    /**
+     * Looks up an answer in memory, then on disk.
+     *
+     * @param key the key of the answer
+     * @return the cached answer, or empty on a miss
+     */
+    public OptionalLong lookup(ResultKey key) {
+        synchronized (memory) {
+            Long answer = memory.get(key);
+            if (answer != null) return OptionalLong.of(answer);
+        }
+
+        OptionalLong stored = readFile(key);
+        stored.ifPresent(answer -> remember(key, answer));
+        return stored;
+    }
+
+    /**
+     * Stores an answer in both tiers.
+     *
+     * @param key the key of the answer
+     * @param answer the answer to store
+     * @throws RuntimeException if the disk tier cannot be written (wraps IOException with context)
+     */
+    public void store(ResultKey key, long answer) {
+        remember(key, answer);
+        if (directory == null) return;
+        try {
+            writeFile(key, answer);
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to store the result of " + key.strategy(), e);
+        }
+    }
+
+    private void remember(ResultKey key, long answer) {
+        synchronized (memory) {
+            memory.put(key, answer);
+        }
+    }
+
+    /**
+     * Builds the result file name from every component of the key.
+     */
+    private Path resultPath(ResultKey key) {
+        String strategy = key.strategy().replaceAll("[^A-Za-z0-9_.]", "_");
+        return directory.resolve(key.contentHash() + "-day" + key.day() + "-" + strategy + "-v" + key.version() + ".result");
+    }
+
+    /**
+     * Reads an answer from the disk tier.
+     *
+     * @return the stored answer, or empty if there is no valid file for the key
+     */
+    private OptionalLong readFile(ResultKey key) {
+        if (directory == null) return OptionalLong.empty();
+        Path file = resultPath(key);
+        if (!Files.exists(file)) return OptionalLong.empty();
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return OptionalLong.empty();
+            return OptionalLong.of(in.readLong());
+        } catch (IOException e) {
+            // A truncated or unreadable file is treated as a cache miss
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Writes an answer to the disk tier, replacing any previous file atomically.
+     */
+    private void writeFile(ResultKey key, long answer) throws IOException {
+        AtomicFiles.write(resultPath(key), MAGIC, FORMAT_VERSION, out -> out.writeLong(answer));
+    }
+}
@@ -0,0 +1,28 @@
+package software.ulpgc.adventofcode2025.core;
+
+/**
+ * Identifies a cached solver result.
+ *
+ * A result is only reused when the same input contents are solved for the same
+ * day by the same version of the same strategy.
+ *
+ * @param contentHash the SHA-256 hash of the input contents
+ * @param day the day number
+ * @param strategy the fully qualified class name of the strategy
+ * @param version the strategy version, see {@link StrategyVersion}
+ */
+public record ResultKey(String contentHash, int day, String strategy, int version) {
+
+    /**
+     * Builds the key for a strategy class, reading its {@link StrategyVersion}.
+     *
+     * @param contentHash the SHA-256 hash of the input contents
+     * @param day the day number
+     * @param strategyType the strategy implementation class
+     * @return the result key
+     */
+    public static ResultKey of(String contentHash, int day, Class<?> strategyType) {
+        StrategyVersion version = strategyType.getAnnotation(StrategyVersion.class);
+        return new ResultKey(contentHash, day, strategyType.getName(), version == null ? 1 : version.value());
+    }
+}
@@ -0,0 +1,118 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in on-disk cache of parsed inputs, stored as compact binary snapshots.
+ *
+ * Parsing the same input over and over can dominate the run time of a solution,
+ * especially when the mapper does heavy pre-processing. The cache stores the mapped
+ * domain object in a binary file encoded by a {@link SnapshotCodec}, and later runs
+ * memory-map that file and decode it instead of re-parsing the input.
+ *
+ * Snapshots are keyed by the SHA-256 hash of the input contents and the id and version
+ * of the codec, so editing an input or changing the snapshot format never returns stale
+ * data. The key does not depend on the class of the mapper: mappers are often lambdas,
+ * whose class names change on every run and would make every snapshot a miss.
+ * Unreadable or outdated snapshots are silently rebuilt.
+ *
+ * The cache is enabled by passing an instance to {@link InputProvider}, or globally by
+ * setting the {@value #DIRECTORY_PROPERTY} system property to a directory.
+ */
+public class SnapshotCache {
+    /**
+     * System property naming the snapshot directory; the cache is disabled when absent.
+     */
+    public static final String DIRECTORY_PROPERTY = "aoc.snapshot.dir";
+
+    /**
+     * Marker written at the start of every snapshot file ("AOCS").
+     */
+    private static final int MAGIC = 0x414F4353;
+
+    private final Path directory;
+
+    /**
+     * Constructs a snapshot cache that stores its files in the given directory.
+     *
+     * The directory is created on the first write if it does not exist yet.
+     *
+     * @param directory the directory holding the snapshot files
+     */
+    public SnapshotCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a cache from the {@value #DIRECTORY_PROPERTY} system property.
+     *
+     * @return a cache in the configured directory, or null if the property is not set
+     */
+    public static SnapshotCache fromSystemProperty() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory == null || directory.isBlank() ? null : new SnapshotCache(Path.of(directory));
+    }
+
+    /**
+     * Returns the cached value for an input, parsing and storing it on a cache miss.
+     *
+     * @param <T> the type of domain object to produce
+     * @param inputFile the raw input file whose contents key the snapshot
+     * @param codec the codec used to encode and decode the value
+     * @param parser parses the input when no valid snapshot exists
+     * @return the decoded snapshot, or the freshly parsed value
+     * @throws IOException if the input cannot be hashed or the snapshot cannot be written
+     */
+    public <T> T load(Path inputFile, SnapshotCodec<T> codec, Supplier<T> parser) throws IOException {
+        Path snapshot = snapshotPath(inputFile, codec);
+
+        if (Files.exists(snapshot)) {
+            T cached = read(snapshot, codec);
+            if (cached != null) return cached;
+        }
+
+        T value = parser.get();
+        write(snapshot, value, codec);
+        return value;
+    }
+
+    /**
+     * Builds the snapshot file name from the content hash and the codec id and version.
+     */
+    private Path snapshotPath(Path inputFile, SnapshotCodec<?> codec) throws IOException {
+        // Custom ids may contain characters that are not valid in file names
+        String format = codec.id().replaceAll("[^A-Za-z0-9_.$]", "_");
+        return directory.resolve(ContentHash.of(inputFile) + "-" + format + "-v" + codec.version() + ".snap");
+    }
+
+    /**
+     * Memory-maps and decodes a snapshot.
+     *
+     * @return the decoded value, or null if the snapshot is outdated or corrupted
+     */
+    private <T> T read(Path snapshot, SnapshotCodec<T> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 2 * Integer.BYTES) return null;
+            if (buffer.getInt() != MAGIC || buffer.getInt() != codec.version()) return null;
+            return codec.read(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // A truncated or foreign file is treated as a cache miss
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a value into a snapshot, replacing any previous file atomically.
+     */
+    private <T> void write(Path snapshot, T value, SnapshotCodec<T> codec) throws IOException {
+        AtomicFiles.write(snapshot, MAGIC, codec.version(), out -> codec.write(value, out));
+    }
+}
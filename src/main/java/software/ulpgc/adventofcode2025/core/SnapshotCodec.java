@@ -0,0 +1,60 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Strategy interface for encoding a mapped domain object into a compact binary snapshot.
+ *
+ * A codec lets the {@link SnapshotCache} store the result of an {@link InputMapper}
+ * so later runs can skip parsing entirely. Values are written with a
+ * {@link DataOutputStream} and read back from a (memory-mapped) {@link ByteBuffer};
+ * both use big-endian byte order, so the two sides line up.
+ *
+ * Snapshots are keyed by the {@link #id()} and {@link #version()} of their codec, which
+ * must therefore be stable across runs. The version must be bumped whenever the binary
+ * layout or the mapper output changes, so that snapshots written by older code are
+ * ignored instead of misread.
+ *
+ * @param <T> the type of domain object stored in the snapshot
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * Returns the identifier of the snapshot format, unique among all codecs.
+     *
+     * The default is the binary name of the codec class, which is stable across runs for
+     * any named class. Codecs implemented by lambdas or other hidden classes, whose names
+     * change from run to run, must override it.
+     *
+     * @return the format identifier, part of the snapshot cache key
+     */
+    default String id() {
+        return getClass().getName();
+    }
+
+    /**
+     * Returns the version of the snapshot format produced by this codec.
+     *
+     * @return the format version, part of the snapshot cache key
+     */
+    int version();
+
+    /**
+     * Writes the value to the output stream.
+     *
+     * @param value the domain object to encode
+     * @param out the stream receiving the encoded bytes
+     * @throws IOException if the stream cannot be written
+     */
+    void write(T value, DataOutputStream out) throws IOException;
+
+    /**
+     * Reads a value previously written by {@link #write}.
+     *
+     * @param in the buffer positioned at the start of the encoded value
+     * @return the decoded domain object
+     */
+    T read(ByteBuffer in);
+}
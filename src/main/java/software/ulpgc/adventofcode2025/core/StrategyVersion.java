@@ -0,0 +1,26 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the version of a strategy implementation for the {@link ResultCache}.
+ *
+ * Bump the value whenever a change to the strategy may alter its answers, so cached
+ * results computed by the previous implementation are no longer returned. Strategies
+ * without the annotation are treated as version 1.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface StrategyVersion {
+    /**
+     * Returns the version of the annotated strategy.
+     *
+     * @return the strategy version
+     */
+    int value();
+}
@@ -0,0 +1,44 @@
+package software.ulpgc.adventofcode2025.core;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streaming variant of {@link InputMapper} for inputs that should not be held in memory at once.
+ *
+ * Implementations receive the input as a lazily read {@link Stream} of lines instead of
+ * a fully materialised list. When a mapper implements this interface, the InputProvider
+ * reads the file through a buffered reader and feeds it line by line, so mappers that
+ * fold their input (sum, count, accumulate) run in constant memory.
+ *
+ * The list-based {@link #map(List)} method is still available and simply streams the
+ * given list, so streaming mappers can be used anywhere a regular InputMapper is expected.
+ *
+ * @param <T> the type of domain object to produce from the input lines
+ */
+@FunctionalInterface
+public interface StreamingInputMapper<T> extends InputMapper<T> {
+
+    /**
+     * Maps a lazily read stream of input lines into a domain-specific object.
+     *
+     * The stream is consumed once and closed by the caller, so implementations
+     * must not keep a reference to it after returning.
+     *
+     * @param lines the input lines, read on demand
+     * @return a domain object of type T constructed from the input lines
+     * @throws RuntimeException if the input cannot be parsed or is invalid
+     */
+    T map(Stream<String> lines);
+
+    /**
+     * Maps an in-memory list of lines by streaming it through {@link #map(Stream)}.
+     *
+     * @param lines the raw input lines read from a file
+     * @return a domain object of type T constructed from the input lines
+     */
+    @Override
+    default T map(List<String> lines) {
+        return map(lines.stream());
+    }
+}
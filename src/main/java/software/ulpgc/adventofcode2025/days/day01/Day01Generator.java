@@ -0,0 +1,25 @@
+package software.ulpgc.adventofcode2025.days.day01;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates dial rotation instructions for Day 1.
+ *
+ * The size is the number of rotations. Each one turns the dial left or right by
+ * 1 to 999 clicks, the same range as the puzzle input (e.g., "L68", "R452").
+ */
+public class Day01Generator implements InputGenerator {
+    private static final int MAX_DISTANCE = 999;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            char direction = random.nextBoolean() ? 'L' : 'R';
+            lines.accept(direction + String.valueOf(random.nextInt(1, MAX_DISTANCE + 1)));
+        }
+    }
+}
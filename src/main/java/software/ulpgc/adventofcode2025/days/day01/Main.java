@@ -1,7 +1,8 @@
 package software.ulpgc.adventofcode2025.days.day01;
 import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.core.MappedInputMapper;
 import software.ulpgc.adventofcode2025.days.day01.service.PasswordProcessor;
-import software.ulpgc.adventofcode2025.days.day01.strategy.AdvancedStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
 import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
 
 
@@ -11,13 +12,19 @@ public class Main {
      *
      * Reads the input file containing rotation instructions, then processes them using
      * two different strategies: BasicStrategy (counts only final position) and
-     * AdvancedStrategy (counts all intermediate positions).
+     * ArithmeticStrategy (counts all intermediate positions in constant time).
+     *
+     * Each processor is used as a mapped input mapper: the file is memory-mapped and the
+     * instructions are decoded in place from its bytes, so they are never held in memory
+     * as Strings and the hot loop allocates nothing per instruction.
      *
      * @param args Command line arguments (not used)
      */
     public static void main(String[] args){
-        var input = new InputProvider("src/main/resources/inputs").provide("input_day01.txt", lines -> lines);
-        System.out.println("Part one result: " + new PasswordProcessor(new BasicStrategy()).solve(input));
-        System.out.println("Part two result: " + new PasswordProcessor(new AdvancedStrategy()).solve(input));
+        var provider = new InputProvider("src/main/resources/inputs");
+        MappedInputMapper<Long> partOne = new PasswordProcessor(new BasicStrategy())::solve;
+        MappedInputMapper<Long> partTwo = new PasswordProcessor(new ArithmeticStrategy())::solve;
+        System.out.println("Part one result: " + provider.provideMapped("input_day01.txt", partOne));
+        System.out.println("Part two result: " + provider.provideMapped("input_day01.txt", partTwo));
     }
 }
@@ -3,8 +3,51 @@ package software.ulpgc.adventofcode2025.days.day01.domain;
 import software.ulpgc.adventofcode2025.days.day01.strategy.PasswordStrategy;
 
 public class Dial {
-    private int position = 50;
     public static final int SIZE = 100;
+    public static final int START = 50;
+    private int position;
+
+    /**
+     * Creates a dial at its initial position, {@value #START}.
+     */
+    public Dial() {
+        this(START);
+    }
+
+    /**
+     * Creates a dial at the given position.
+     *
+     * Used to resume a rotation log from the middle, once the position reached by the
+     * preceding instructions is known.
+     *
+     * @param position The starting position on the dial (0-99)
+     */
+    public Dial(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Returns the current position of the dial.
+     *
+     * @return The position on the dial (0-99)
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Computes how far an instruction moves the dial, as a clockwise offset.
+     *
+     * The offset only depends on the instruction, not on the position of the dial, so
+     * the offsets of consecutive instructions can be summed modulo {@link #SIZE} to know
+     * where a sequence of rotations ends without counting any zero.
+     *
+     * @param instruction A string containing direction ('L' or 'R') followed by step count (e.g., "R25")
+     * @return The clockwise offset of the rotation, in the range [0, 99]
+     */
+    public static int offsetOf(CharSequence instruction) {
+        return calculateNewPosition(0, stepsOf(instruction), instruction.charAt(0));
+    }
 
     /**
      * Rotates the dial according to the given instruction and counts zeros using the provided strategy.
@@ -13,18 +56,57 @@ public class Dial {
      * (remaining characters), then delegates zero counting to the strategy before updating
      * the dial's position.
      *
+     * The instruction is decoded in place, character by character, so it can be a String
+     * or a {@link software.ulpgc.adventofcode2025.core.LineSlice} over a mapped input file,
+     * and rotating the dial never allocates.
+     *
      * @param instruction A string containing direction ('L' or 'R') followed by step count (e.g., "R25")
      * @param strategy The strategy used to count how many times position zero is encountered
      * @return The number of times position zero was encountered during this rotation
      */
-    public long rotate(String instruction, PasswordStrategy strategy) {
-        char dir = instruction.charAt(0);
-        int steps = Integer.parseInt(instruction.substring(1));
+    public long rotate(CharSequence instruction, PasswordStrategy strategy) {
+        return rotate(instruction.charAt(0), stepsOf(instruction), strategy);
+    }
+
+    /**
+     * Rotates the dial by an already decoded instruction and counts zeros using the provided strategy.
+     *
+     * @param dir The direction of rotation ('L' for left/counter-clockwise, 'R' for right/clockwise)
+     * @param steps The number of positions to rotate
+     * @param strategy The strategy used to count how many times position zero is encountered
+     * @return The number of times position zero was encountered during this rotation
+     */
+    public long rotate(char dir, int steps, PasswordStrategy strategy) {
         long zerosFound = strategy.countZeros(this.position, steps, dir);
         this.position = calculateNewPosition(this.position, steps, dir);
         return zerosFound;
     }
 
+    /**
+     * Decodes the step count that follows the direction of an instruction.
+     *
+     * Equivalent to {@code Integer.parseInt(instruction.substring(1))} for well-formed
+     * instructions, without creating the substring.
+     *
+     * @param instruction A string containing direction ('L' or 'R') followed by step count (e.g., "R25")
+     * @return The number of steps of the rotation
+     * @throws NumberFormatException if the step count is missing, not a number or larger than an int
+     */
+    public static int stepsOf(CharSequence instruction) {
+        int length = instruction.length();
+        if (length < 2) throw new NumberFormatException("Missing step count in \"" + instruction + "\"");
+
+        int steps = 0;
+        for (int i = 1; i < length; i++) {
+            int digit = instruction.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || steps > (Integer.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("Invalid step count in \"" + instruction + "\"");
+            }
+            steps = steps * 10 + digit;
+        }
+        return steps;
+    }
+
     /**
      * Calculates the new position after rotating the dial by the specified number of steps.
      *
@@ -37,7 +119,7 @@ public class Dial {
      * @param dir The direction of rotation ('L' for left/counter-clockwise, 'R' for right/clockwise)
      * @return The new position after rotation, guaranteed to be in the range [0, 99]
      */
-    private int calculateNewPosition(int current, int steps, char dir) {
+    private static int calculateNewPosition(int current, int steps, char dir) {
         int delta = (dir == 'L') ? -steps : steps;
         return ((current + delta) % SIZE + SIZE) % SIZE;
     }
@@ -0,0 +1,92 @@
+package software.ulpgc.adventofcode2025.days.day01.domain;
+
+import software.ulpgc.adventofcode2025.core.AtomicFiles;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a running password computation.
+ *
+ * A checkpoint holds everything needed to resume a rotation feed without replaying it:
+ * the position of the dial, the number of instructions applied so far and the running
+ * zero count of every strategy, identified by its class name. Checkpoints can be written
+ * to a small binary file and read back after a restart.
+ *
+ * @param position the position of the dial (0-99)
+ * @param instructions the number of instructions applied so far
+ * @param strategies the class names of the strategies, in order
+ * @param zeros the running zero count of each strategy, in the same order
+ */
+public record PasswordCheckpoint(int position, long instructions, List<String> strategies, List<Long> zeros) {
+    /**
+     * Marker written at the start of every checkpoint file ("AOCP").
+     */
+    private static final int MAGIC = 0x414F4350;
+
+    private static final int VERSION = 1;
+
+    public PasswordCheckpoint {
+        if (position < 0 || position >= Dial.SIZE) {
+            throw new IllegalArgumentException("Invalid dial position: " + position);
+        }
+        if (strategies.size() != zeros.size()) {
+            throw new IllegalArgumentException("Expected one zero count per strategy");
+        }
+        strategies = List.copyOf(strategies);
+        zeros = List.copyOf(zeros);
+    }
+
+    /**
+     * Writes the checkpoint to a file, replacing any previous one atomically.
+     *
+     * The checkpoint is written to a temporary file in the same directory first, so a
+     * crash while writing never leaves a truncated checkpoint behind.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        AtomicFiles.write(file, MAGIC, VERSION, out -> {
+            out.writeInt(position);
+            out.writeLong(instructions);
+            out.writeInt(strategies.size());
+            for (int i = 0; i < strategies.size(); i++) {
+                out.writeUTF(strategies.get(i));
+                out.writeLong(zeros.get(i));
+            }
+        });
+    }
+
+    /**
+     * Reads a checkpoint previously written with {@link #write(Path)}.
+     *
+     * @param file the checkpoint file
+     * @return the checkpoint stored in the file
+     * @throws IOException if the file cannot be read or is not a checkpoint
+     */
+    public static PasswordCheckpoint read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a password checkpoint: " + file);
+            }
+            int position = in.readInt();
+            long instructions = in.readLong();
+            int count = in.readInt();
+            List<String> strategies = new ArrayList<>(count);
+            List<Long> zeros = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                strategies.add(in.readUTF());
+                zeros.add(in.readLong());
+            }
+            return new PasswordCheckpoint(position, instructions, strategies, zeros);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupted password checkpoint: " + file, e);
+        }
+    }
+}
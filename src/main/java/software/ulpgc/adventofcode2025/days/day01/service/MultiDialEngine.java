@@ -0,0 +1,192 @@
+package software.ulpgc.adventofcode2025.days.day01.service;
+
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch engine that simulates many independent dials against the same instruction stream.
+ *
+ * Simulating N {@link Dial} objects means N object dereferences, N instruction decodings
+ * and N virtual strategy calls per rotation. This engine decodes every instruction once
+ * and keeps the state of all dials in primitive arrays (structure of arrays), so applying
+ * a rotation is a single tight loop over contiguous ints.
+ *
+ * Dials may have different start positions and different sizes. Dials of the same size
+ * are stored together, so the division of the step count by the dial size is done once
+ * per size instead of once per dial. What is left in the loop over a group is branch-free
+ * additions, comparisons and selections, which the JIT compiler can turn into SIMD
+ * instructions over several dials at a time.
+ *
+ * For every dial the engine keeps both puzzle answers as running totals: the number of
+ * rotations ending on zero ({@code BasicStrategy}) and the number of times zero is passed
+ * or reached ({@code AdvancedStrategy}).
+ */
+public class MultiDialEngine {
+    private final List<Group> groups = new ArrayList<>();
+    private final Group[] groupOf;
+    private final int[] slotOf;
+
+    /**
+     * Creates an engine simulating one dial per entry of the given arrays.
+     *
+     * @param starts the start position of each dial
+     * @param sizes the number of positions of each dial; must be positive
+     * @throws IllegalArgumentException if the arrays differ in length, or a position is off its dial
+     */
+    public MultiDialEngine(int[] starts, int[] sizes) {
+        if (starts.length != sizes.length) {
+            throw new IllegalArgumentException("Expected one size per start position");
+        }
+
+        Map<Integer, List<Integer>> dialsBySize = new LinkedHashMap<>();
+        for (int dial = 0; dial < starts.length; dial++) {
+            if (sizes[dial] <= 0 || starts[dial] < 0 || starts[dial] >= sizes[dial]) {
+                throw new IllegalArgumentException("Invalid dial " + dial + ": position " + starts[dial] + " of " + sizes[dial]);
+            }
+            dialsBySize.computeIfAbsent(sizes[dial], size -> new ArrayList<>()).add(dial);
+        }
+
+        this.groupOf = new Group[starts.length];
+        this.slotOf = new int[starts.length];
+        dialsBySize.forEach((size, members) -> {
+            Group group = new Group(size, members, starts);
+            groups.add(group);
+            for (int slot = 0; slot < members.size(); slot++) {
+                groupOf[members.get(slot)] = group;
+                slotOf[members.get(slot)] = slot;
+            }
+        });
+    }
+
+    /**
+     * Creates an engine simulating dials of the standard size, {@value Dial#SIZE}.
+     *
+     * @param starts the start position of each dial
+     * @return the engine
+     */
+    public static MultiDialEngine withStandardDials(int... starts) {
+        int[] sizes = new int[starts.length];
+        Arrays.fill(sizes, Dial.SIZE);
+        return new MultiDialEngine(starts, sizes);
+    }
+
+    /**
+     * Applies a rotation instruction to every dial; blank instructions are ignored.
+     *
+     * @param instruction a rotation instruction (e.g., "R25", "L10")
+     */
+    public void rotate(CharSequence instruction) {
+        if (instruction.isEmpty() || Character.isWhitespace(instruction.charAt(0))) return;
+        boolean right = instruction.charAt(0) == 'R';
+        int steps = Dial.stepsOf(instruction);
+        for (Group group : groups) {
+            if (right) group.rotateRight(steps);
+            else group.rotateLeft(steps);
+        }
+    }
+
+    /**
+     * Applies a sequence of rotation instructions to every dial, in order.
+     *
+     * @param instructions the rotation instructions
+     */
+    public void rotateAll(Iterable<? extends CharSequence> instructions) {
+        for (CharSequence instruction : instructions) rotate(instruction);
+    }
+
+    /**
+     * Returns the number of simulated dials.
+     *
+     * @return the dial count
+     */
+    public int dials() {
+        return slotOf.length;
+    }
+
+    /**
+     * Returns the current position of a dial.
+     *
+     * @param dial the index of the dial, in construction order
+     * @return the position of the dial
+     */
+    public int position(int dial) {
+        return groupOf[dial].positions[slotOf[dial]];
+    }
+
+    /**
+     * Returns how many rotations of a dial have ended on zero (part one).
+     *
+     * @param dial the index of the dial, in construction order
+     * @return the number of landings on zero
+     */
+    public long landings(int dial) {
+        return groupOf[dial].landings[slotOf[dial]];
+    }
+
+    /**
+     * Returns how many times a dial has passed through or reached zero (part two).
+     *
+     * @param dial the index of the dial, in construction order
+     * @return the number of zero crossings
+     */
+    public long crossings(int dial) {
+        return groupOf[dial].crossings[slotOf[dial]];
+    }
+
+    /**
+     * Dials sharing the same size, stored as parallel primitive arrays.
+     */
+    private static final class Group {
+        private final int size;
+        private final int[] positions;
+        private final long[] landings;
+        private final long[] crossings;
+
+        Group(int size, List<Integer> members, int[] starts) {
+            this.size = size;
+            this.positions = members.stream().mapToInt(dial -> starts[dial]).toArray();
+            this.landings = new long[positions.length];
+            this.crossings = new long[positions.length];
+        }
+
+        /**
+         * Moves every dial clockwise: zero is passed once per full turn, plus once more
+         * if the remainder carries the dial over the end.
+         */
+        void rotateRight(int steps) {
+            int turns = steps / size;
+            int remainder = steps % size;
+            for (int slot = 0; slot < positions.length; slot++) {
+                int moved = positions[slot] + remainder;
+                int wrap = moved >= size ? 1 : 0;
+                int position = moved - wrap * size;
+                positions[slot] = position;
+                crossings[slot] += turns + wrap;
+                landings[slot] += position == 0 ? 1 : 0;
+            }
+        }
+
+        /**
+         * Moves every dial counterclockwise: zero is passed once per full turn, plus once
+         * more if the remainder reaches zero from a non-zero position.
+         */
+        void rotateLeft(int steps) {
+            int turns = steps / size;
+            int remainder = steps % size;
+            for (int slot = 0; slot < positions.length; slot++) {
+                int current = positions[slot];
+                int wrap = current > 0 && remainder >= current ? 1 : 0;
+                int moved = current - remainder;
+                int position = moved < 0 ? moved + size : moved;
+                positions[slot] = position;
+                crossings[slot] += turns + wrap;
+                landings[slot] += position == 0 ? 1 : 0;
+            }
+        }
+    }
+}
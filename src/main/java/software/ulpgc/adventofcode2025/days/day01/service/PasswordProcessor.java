@@ -1,11 +1,19 @@
 package software.ulpgc.adventofcode2025.days.day01.service;
 
+import software.ulpgc.adventofcode2025.core.MappedInput;
 import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
 import software.ulpgc.adventofcode2025.days.day01.strategy.PasswordStrategy;
 
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class PasswordProcessor {
+    /**
+     * Number of instructions handled by a single fork-join chunk.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
     private final PasswordStrategy strategy;
 
     /**
@@ -29,14 +37,115 @@ public class PasswordProcessor {
      * @return The total number of times position zero was encountered
      */
     public long solve(List<String> instructions) {
+        return solve(instructions.stream());
+    }
+
+    /**
+     * Processes a lazily read stream of rotation instructions and calculates the total
+     * number of times the dial passes through or lands on position zero.
+     *
+     * Instructions are folded one at a time into a single dial, so the whole input
+     * never has to be held in memory. This makes the processor usable as a
+     * streaming input mapper for arbitrarily large rotation logs.
+     *
+     * @param instructions A stream of rotation instructions (e.g., "R25", "L10")
+     * @return The total number of times position zero was encountered
+     */
+    public long solve(Stream<String> instructions) {
+        return count(instructions, new Dial());
+    }
+
+    /**
+     * Processes a memory-mapped file of rotation instructions and calculates the total
+     * number of times the dial passes through or lands on position zero.
+     *
+     * Every line is handed to the dial as a {@link software.ulpgc.adventofcode2025.core.LineSlice}
+     * over the mapped bytes, and the dial decodes it in place, so no String or other object
+     * is created per instruction. This makes the processor usable as a mapped input mapper.
+     *
+     * @param input The mapped rotation log, one instruction per line
+     * @return The total number of times position zero was encountered
+     */
+    public long solve(MappedInput input) {
         Dial dial = new Dial();
-        long totalZeros = 0;
+        long[] totalZeros = {0};
 
+        input.forEachLine(line -> {
+            if (line.isBlank()) return;
+            totalZeros[0] += dial.rotate(line, strategy);
+        });
+
+        return totalZeros[0];
+    }
+
+    /**
+     * Processes a list of rotation instructions in parallel on the common fork-join pool.
+     *
+     * The dial is only sequential through its position, and the position after a chunk
+     * of instructions is the start position plus a fixed modular offset. The log is
+     * therefore evaluated as a prefix scan in two parallel passes:
+     * <ol>
+     *   <li>every chunk sums the offsets of its instructions, without counting zeros;</li>
+     *   <li>a sequential scan over the chunk offsets gives the start position of every chunk;</li>
+     *   <li>every chunk counts its zeros on a dial resumed from its start position.</li>
+     * </ol>
+     * The result is identical to {@link #solve(List)}. Logs that fit in a single chunk
+     * are solved sequentially, since splitting them would cost more than it saves.
+     *
+     * @param instructions A list of rotation instructions (e.g., "R25", "L10")
+     * @return The total number of times position zero was encountered
+     */
+    public long solveParallel(List<String> instructions) {
+        int chunks = (instructions.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks <= 1) return solve(instructions);
+
+        int[] offsets = IntStream.range(0, chunks).parallel()
+                .map(chunk -> offset(chunk(instructions, chunk)))
+                .toArray();
+
+        int[] starts = new int[chunks];
+        starts[0] = Dial.START;
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            starts[chunk] = (starts[chunk - 1] + offsets[chunk - 1]) % Dial.SIZE;
+        }
+
+        return IntStream.range(0, chunks).parallel()
+                .mapToLong(chunk -> count(chunk(instructions, chunk).stream(), new Dial(starts[chunk])))
+                .sum();
+    }
+
+    /**
+     * Folds instructions into the given dial, accumulating the zeros found by the strategy.
+     */
+    private long count(Stream<String> instructions, Dial dial) {
+        long[] totalZeros = {0};
+
+        instructions.forEachOrdered(instruction -> {
+            if (isBlank(instruction)) return;
+            totalZeros[0] += dial.rotate(instruction, strategy);
+        });
+
+        return totalZeros[0];
+    }
+
+    /**
+     * Sums the clockwise offsets of a chunk of instructions, modulo the dial size.
+     */
+    private static int offset(List<String> instructions) {
+        int offset = 0;
         for (String instruction : instructions) {
-            if (instruction == null || instruction.isBlank()) continue;
-            totalZeros += dial.rotate(instruction, strategy);
+            if (isBlank(instruction)) continue;
+            offset = (offset + Dial.offsetOf(instruction)) % Dial.SIZE;
         }
+        return offset;
+    }
+
+    private static List<String> chunk(List<String> instructions, int chunk) {
+        int from = chunk * CHUNK_SIZE;
+        return instructions.subList(from, Math.min(from + CHUNK_SIZE, instructions.size()));
+    }
 
-        return totalZeros;
+    private static boolean isBlank(String instruction) {
+        return instruction == null || instruction.isBlank();
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package software.ulpgc.adventofcode2025.days.day01.service;
+
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+import software.ulpgc.adventofcode2025.days.day01.domain.PasswordCheckpoint;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.PasswordStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Long-lived, thread-safe password computation over a continuous feed of rotations.
+ *
+ * Unlike {@link PasswordProcessor}, which solves a complete list of instructions with a
+ * fresh dial on every call, the service keeps a single dial for its whole lifetime and
+ * accepts instructions as they arrive, one at a time or in batches. Every instruction is
+ * decoded once and counted by all the configured strategies at the same time, so the
+ * answers of both puzzle parts are always available as running totals.
+ *
+ * The state can be captured as a {@link PasswordCheckpoint} and restored later, for
+ * instance after a restart, so the history never has to be replayed.
+ *
+ * All methods are synchronized: instructions from concurrent producers are applied one
+ * at a time, and a batch is always applied as a whole, without instructions from other
+ * threads in between. A batch holding a malformed instruction is rejected entirely.
+ */
+public class PasswordService {
+    private final List<PasswordStrategy> strategies;
+    private final long[] zeros;
+    private final PasswordStrategy tally = this::tally;
+    private Dial dial = new Dial();
+    private long instructions;
+
+    /**
+     * Creates a service counting zeros for both puzzle parts: BasicStrategy for part one
+     * and ArithmeticStrategy for part two.
+     */
+    public PasswordService() {
+        this(new BasicStrategy(), new ArithmeticStrategy());
+    }
+
+    /**
+     * Creates a service counting zeros with each of the given strategies.
+     *
+     * @param strategies the strategies whose running totals are kept, in order
+     */
+    public PasswordService(PasswordStrategy... strategies) {
+        if (strategies.length == 0) throw new IllegalArgumentException("At least one strategy is required");
+        this.strategies = List.of(strategies);
+        this.zeros = new long[strategies.length];
+    }
+
+    /**
+     * Applies a single rotation instruction; blank instructions are ignored.
+     *
+     * @param instruction a rotation instruction (e.g., "R25", "L10")
+     */
+    public synchronized void accept(CharSequence instruction) {
+        if (isBlank(instruction)) return;
+        dial.rotate(instruction, tally);
+        instructions++;
+    }
+
+    /**
+     * Applies a batch of rotation instructions atomically, in order; blank instructions are ignored.
+     *
+     * The whole batch is decoded before the dial moves, so a malformed instruction anywhere
+     * in it rejects the batch and leaves the service exactly as it was.
+     *
+     * @param batch the rotation instructions to apply
+     * @throws NumberFormatException if an instruction has a missing or invalid step count;
+     *         no instruction of the batch is applied
+     */
+    public synchronized void acceptAll(Iterable<? extends CharSequence> batch) {
+        char[] directions = new char[16];
+        int[] steps = new int[16];
+        int count = 0;
+        for (CharSequence instruction : batch) {
+            if (isBlank(instruction)) continue;
+            if (count == steps.length) {
+                directions = Arrays.copyOf(directions, count * 2);
+                steps = Arrays.copyOf(steps, count * 2);
+            }
+            directions[count] = instruction.charAt(0);
+            steps[count++] = Dial.stepsOf(instruction);
+        }
+
+        for (int i = 0; i < count; i++) dial.rotate(directions[i], steps[i], tally);
+        instructions += count;
+    }
+
+    /**
+     * Returns the running zero count of one strategy.
+     *
+     * @param strategy the index of the strategy, in the order given at construction
+     * @return the number of zeros counted so far by that strategy
+     */
+    public synchronized long zeros(int strategy) {
+        return zeros[strategy];
+    }
+
+    /**
+     * Returns the running zero counts of all strategies, in the order given at construction.
+     *
+     * @return a copy of the running totals
+     */
+    public synchronized long[] zeros() {
+        return zeros.clone();
+    }
+
+    /**
+     * Returns the number of instructions applied so far.
+     *
+     * @return the instruction count
+     */
+    public synchronized long instructions() {
+        return instructions;
+    }
+
+    /**
+     * Captures the current state of the service.
+     *
+     * @return a checkpoint that can be restored later
+     */
+    public synchronized PasswordCheckpoint checkpoint() {
+        List<Long> totals = Arrays.stream(zeros).boxed().toList();
+        return new PasswordCheckpoint(dial.position(), instructions, strategyNames(), totals);
+    }
+
+    /**
+     * Replaces the current state of the service with a checkpoint.
+     *
+     * The checkpoint must have been taken from a service with the same strategies in the
+     * same order; otherwise its totals would be attributed to the wrong strategies.
+     *
+     * @param checkpoint the state to restore
+     * @throws IllegalArgumentException if the checkpoint was taken with different strategies
+     */
+    public synchronized void restore(PasswordCheckpoint checkpoint) {
+        if (!checkpoint.strategies().equals(strategyNames())) {
+            throw new IllegalArgumentException("Checkpoint strategies " + checkpoint.strategies()
+                    + " do not match " + strategyNames());
+        }
+        for (int i = 0; i < zeros.length; i++) zeros[i] = checkpoint.zeros().get(i);
+        dial = new Dial(checkpoint.position());
+        instructions = checkpoint.instructions();
+    }
+
+    /**
+     * Counts the rotation with every strategy; the dial is rotated once, through this method.
+     */
+    private long tally(int currentPosition, int steps, char direction) {
+        for (int i = 0; i < zeros.length; i++) {
+            zeros[i] += strategies.get(i).countZeros(currentPosition, steps, direction);
+        }
+        return 0;
+    }
+
+    private List<String> strategyNames() {
+        List<String> names = new ArrayList<>(strategies.size());
+        for (PasswordStrategy strategy : strategies) names.add(strategy.getClass().getName());
+        return names;
+    }
+
+    private static boolean isBlank(CharSequence instruction) {
+        if (instruction == null) return true;
+        for (int i = 0; i < instruction.length(); i++) {
+            if (!Character.isWhitespace(instruction.charAt(i))) return false;
+        }
+        return true;
+    }
+}
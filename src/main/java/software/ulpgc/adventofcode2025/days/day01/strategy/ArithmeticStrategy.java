@@ -0,0 +1,35 @@
+package software.ulpgc.adventofcode2025.days.day01.strategy;
+
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+
+/**
+ * Constant-time implementation of PasswordStrategy that counts all zero crossings during rotation.
+ *
+ * This strategy returns exactly the same counts as {@link AdvancedStrategy}, but computes
+ * them arithmetically from the starting position, the direction and the number of steps
+ * instead of simulating the rotation click by click. The cost of an instruction no longer
+ * depends on its step count, so a rotation like "R1000000000" is as cheap as "R1".
+ */
+public class ArithmeticStrategy implements PasswordStrategy {
+    /**
+     * Counts all occurrences of position zero during the rotation in constant time.
+     *
+     * Every full turn of the dial passes through zero exactly once, so the count is the
+     * number of times the distance to the first zero ahead, plus further full turns, fits
+     * in the number of steps. Moving right, zero is first reached after
+     * {@code SIZE - currentPosition} steps; moving left, after {@code currentPosition} steps,
+     * or a full turn when starting on zero. Both cases reduce to counting how many multiples
+     * of {@code SIZE} lie in the range covered by the rotation.
+     *
+     * @param currentPosition The starting position on the dial (0-99)
+     * @param steps The number of positions to rotate
+     * @param direction The direction of rotation ('L' for left, 'R' for right)
+     * @return The total number of times position zero was encountered during the rotation
+     */
+    @Override
+    public long countZeros(int currentPosition, int steps, char direction) {
+        // Mirroring a left rotation turns it into a right rotation from the opposite position
+        long start = (direction == 'R') ? currentPosition : (Dial.SIZE - currentPosition) % Dial.SIZE;
+        return (start + steps) / Dial.SIZE;
+    }
+}
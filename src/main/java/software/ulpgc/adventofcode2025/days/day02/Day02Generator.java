@@ -0,0 +1,39 @@
+package software.ulpgc.adventofcode2025.days.day02;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates ID ranges for Day 2.
+ *
+ * The size is the number of ranges, written comma-separated on a single line like
+ * the puzzle input. Ranges start at IDs of 1 to 10 digits and span at most 100,000
+ * IDs, so some of them cross a digit-length boundary as in the real data.
+ */
+public class Day02Generator implements InputGenerator {
+    private static final int MAX_DIGITS = 10;
+    private static final int MAX_WIDTH = 100_000;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder line = new StringBuilder();
+
+        for (int i = 0; i < size; i++) {
+            long low = pow10(random.nextInt(MAX_DIGITS));
+            long start = random.nextLong(low, low * 10);
+            long end = start + random.nextInt(MAX_WIDTH);
+            if (i > 0) line.append(',');
+            line.append(start).append('-').append(end);
+        }
+        lines.accept(line.toString());
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) value *= 10;
+        return value;
+    }
+}
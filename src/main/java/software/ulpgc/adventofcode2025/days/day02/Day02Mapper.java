@@ -1,9 +1,10 @@
 package software.ulpgc.adventofcode2025.days.day02;
 
-import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.StreamingInputMapper;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Input mapper for Day 2 that parses comma-separated values from multiple lines
@@ -12,8 +13,11 @@ import java.util.List;
  * This mapper processes input where each line may contain multiple comma-separated
  * values and combines all values into one continuous list. It's useful for
  * parsing compact data formats where multiple values are stored per line.
+ *
+ * The mapper is streaming: lines are consumed one at a time as they are read,
+ * so the raw input is never held in memory as a whole.
  */
-public class Day02Mapper implements InputMapper<List<String>> {
+public class Day02Mapper implements StreamingInputMapper<List<String>> {
 
     /**
      * Maps input lines containing comma-separated values into a flat list of strings.
@@ -29,12 +33,12 @@ public class Day02Mapper implements InputMapper<List<String>> {
      * Input lines: ["1102,2949", "3000,4500", "5000"]
      * Output list: ["1102", "2949", "3000", "4500", "5000"]
      *
-     * @param lines the raw input lines from the file
+     * @param lines the raw input lines, read on demand
      * @return a flattened list of all comma-separated values from all lines
      */
     @Override
-    public List<String> map(List<String> lines) {
-        return lines.stream()
+    public List<String> map(Stream<String> lines) {
+        return lines
                 .map(String::trim)
                 .filter(line -> !line.isEmpty())
                 .map(line -> line.split(","))  // Transform each line into an array ["1102", "2949"]
@@ -1,7 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day02;
 import software.ulpgc.adventofcode2025.core.InputProvider;
-import software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule;
-import software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.SimpleRepeatEvaluator;
 import software.ulpgc.adventofcode2025.days.day02.service.IdProcessor;
 
 
@@ -10,14 +10,15 @@ public class Main {
      * Entry point of the application that validates IDs based on repetition patterns.
      *
      * Reads the input file containing ID ranges, then processes them using two different
-     * validation rules: SimpleRepeatRule (checks for exact half-repetition) and
-     * MultipleRepeatRule (checks for prime-divisor repetition patterns).
+     * range evaluators: SimpleRepeatEvaluator (sums IDs made of two identical halves) and
+     * MultipleRepeatEvaluator (sums IDs made of a pattern repeated at least twice). Both
+     * compute the sums arithmetically, without visiting every ID of the ranges.
      *
      * @param args Command line arguments (not used)
      */
     public static void main(String[] args){
         var input = new InputProvider("src/main/resources/inputs").provide("input_day02.txt", new Day02Mapper());
-        System.out.println("Total part one: " + new IdProcessor(new SimpleRepeatRule()).solve(input));
-        System.out.println("Total part two: " + new IdProcessor(new MultipleRepeatRule()).solve(input));
+        System.out.println("Total part one: " + new IdProcessor(new SimpleRepeatEvaluator()).solve(input));
+        System.out.println("Total part two: " + new IdProcessor(new MultipleRepeatEvaluator()).solve(input));
     }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package software.ulpgc.adventofcode2025.days.day02.domain;
 
+import software.ulpgc.adventofcode2025.core.NumberScanner;
 import software.ulpgc.adventofcode2025.days.day02.rule.IdRule;
+import software.ulpgc.adventofcode2025.utils.DigitUtils;
 
-import java.util.stream.LongStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Represents a range of IDs with inclusive start and end boundaries.
@@ -19,35 +24,122 @@ public record IdRange(long start, long end) {
      * Factory method that parses a range string into an IdRange object.
      *
      * Parses strings in the format "start-end" (e.g., "100-200") where both
-     * start and end are long integers. Whitespace around the numbers is trimmed.
+     * start and end are long integers. Whitespace around the numbers is ignored.
+     * Both values are read in place with a NumberScanner, without splitting the string.
      *
      * @param rangeStr A string representing the range in format "start-end"
      * @return An IdRange object with the parsed start and end values
      * @throws NumberFormatException if either part cannot be parsed as a long
-     * @throws ArrayIndexOutOfBoundsException if the string doesn't contain exactly one hyphen
+     * @throws IllegalArgumentException if the two values are not separated by a hyphen
      */
     public static IdRange parse(String rangeStr) {
-        String[] parts = rangeStr.split("-");
-        return new IdRange(
-                Long.parseLong(parts[0].trim()),
-                Long.parseLong(parts[1].trim())
-        );
+        NumberScanner scanner = new NumberScanner(rangeStr);
+        long start = scanner.nextLong();
+        long end = scanner.expect('-').nextLong();
+        return new IdRange(start, end);
     }
 
     /**
      * Evaluates all IDs in the range and returns the sum of valid IDs.
      *
-     * Generates a stream of all IDs from start to end (inclusive), applies
-     * the validation rule to each ID, and sums the results. Valid IDs return
-     * their own value while invalid IDs return 0, so only valid IDs contribute
-     * to the final sum.
+     * Hands the whole range to the batch entry point of the rule, so that the rule
+     * runs its own loop over the IDs instead of being called once per ID. Valid IDs
+     * count with their own value while invalid IDs count as 0, so only valid IDs
+     * contribute to the final sum.
      *
      * @param rule The validation rule to apply to each ID in the range
      * @return The sum of all valid IDs in the range
      */
     public long sumValidIds(IdRule rule) {
-        return LongStream.rangeClosed(start, end)
-                .map(rule::evaluate)
-                .sum();
+        return rule.sumValidIds(start, end);
     }
-}
\ No newline at end of file
+
+    /**
+     * Merges overlapping and adjacent ranges, so that every ID is covered exactly once.
+     *
+     * The ranges are sorted by their start, then each range is either appended or folded
+     * into the previous one when they share or touch an ID. Empty ranges (end before
+     * start) are dropped.
+     *
+     * Example: [10-20, 15-30, 31-40, 50-60] becomes [10-40, 50-60]
+     *
+     * @param ranges The ranges to merge, in any order
+     * @return The disjoint, non-adjacent ranges covering the same IDs, sorted by start
+     */
+    public static List<IdRange> merge(Collection<IdRange> ranges) {
+        List<IdRange> sorted = ranges.stream()
+                .filter(range -> range.start <= range.end)
+                .sorted(Comparator.comparingLong(IdRange::start))
+                .toList();
+
+        List<IdRange> merged = new ArrayList<>();
+        for (IdRange range : sorted) {
+            IdRange last = merged.isEmpty() ? null : merged.getLast();
+            // end + 1 would overflow for a range ending at Long.MAX_VALUE, which covers everything after it
+            if (last != null && (last.end == Long.MAX_VALUE || range.start <= last.end + 1)) {
+                merged.set(merged.size() - 1, new IdRange(last.start, Math.max(last.end, range.end)));
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Splits the range into balanced sub-ranges of at most {@code maxWidth} IDs.
+     *
+     * The range is first cut at every digit-length boundary (9|10, 99|100, ...), so each
+     * sub-range only holds IDs with the same number of digits, which is what the repetition
+     * rules reason about. Each of these pieces is then divided into the smallest number of
+     * sub-ranges of at most {@code maxWidth} IDs, all of nearly the same width.
+     *
+     * Example: 95-1015 with a maximum width of 500 becomes [95-99, 100-549, 550-999, 1000-1015]
+     *
+     * @param maxWidth The maximum number of IDs in a sub-range, at least 1
+     * @return The sub-ranges, in order, covering exactly the IDs of this range
+     */
+    public List<IdRange> split(long maxWidth) {
+        if (maxWidth < 1) throw new IllegalArgumentException("Invalid maximum width: " + maxWidth);
+
+        List<IdRange> pieces = new ArrayList<>();
+        long from = start;
+        while (from <= end) {
+            long to = Math.min(end, lastWithSameDigits(from));
+            splitEvenly(from, to, maxWidth, pieces);
+            if (to == end) break;
+            from = to + 1;
+        }
+        return pieces;
+    }
+
+    /**
+     * Returns the largest ID with the same number of digits as {@code id}; IDs below 1
+     * are kept together in a single piece ending at 0.
+     */
+    private static long lastWithSameDigits(long id) {
+        return id < 1 ? 0 : DigitUtils.largestWithDigits(DigitUtils.digits(id));
+    }
+
+    /**
+     * Divides [from, to] into the fewest sub-ranges of at most maxWidth IDs, spreading
+     * the remainder so that widths differ by at most one.
+     */
+    private static void splitEvenly(long from, long to, long maxWidth, List<IdRange> pieces) {
+        // The number of IDs is span + 1; it is derived from span so that it never overflows
+        long span = to - from;
+        long parts = span / maxWidth + 1;
+        long width = span / parts;
+        long wider = span % parts + 1;
+        if (wider == parts) {
+            width++;
+            wider = 0;
+        }
+
+        long partStart = from;
+        for (long part = 0; part < parts; part++) {
+            long partEnd = partStart + width - 1 + (part < wider ? 1 : 0);
+            pieces.add(new IdRange(partStart, partEnd));
+            partStart = partEnd + 1;
+        }
+    }
+}
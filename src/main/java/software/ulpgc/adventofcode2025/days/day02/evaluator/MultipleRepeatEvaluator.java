@@ -0,0 +1,45 @@
+package software.ulpgc.adventofcode2025.days.day02.evaluator;
+
+/**
+ * Range evaluator summing the IDs made of a pattern repeated at least twice, like
+ * {@link software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule}.
+ *
+ * An ID can be a repetition in several ways at once: 111111 is "1" six times, "11"
+ * three times and "111" twice. Summing every repetition count separately would count
+ * it three times, so the counts are combined by inclusion–exclusion. An ID repeated
+ * both p and q times (p, q distinct primes) is repeated p·q times, hence the sum over
+ * all valid IDs of length L is
+ * <pre>
+ *     sum over divisors d &gt; 1 of L of  -μ(d) · S(L, d)
+ * </pre>
+ * where S(L, d) is the sum of the IDs repeated d times and μ is the Möbius function:
+ * prime counts are added, products of two primes subtracted, and so on, while counts
+ * with a squared prime factor (μ = 0) are already covered by a smaller count.
+ */
+public class MultipleRepeatEvaluator extends RepeatedPatternEvaluator {
+    @Override
+    protected long sumOfLength(int length, long from, long to) {
+        long sum = 0;
+        for (int repetitions = 2; repetitions <= length; repetitions++) {
+            if (length % repetitions != 0) continue;
+            int mobius = mobius(repetitions);
+            if (mobius != 0) sum -= mobius * sumRepeated(length, repetitions, from, to);
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the Möbius function: 0 if n has a squared prime factor, otherwise
+     * (-1) raised to the number of prime factors of n.
+     */
+    private static int mobius(int n) {
+        int result = 1;
+        for (int p = 2; p * p <= n; p++) {
+            if (n % p != 0) continue;
+            n /= p;
+            if (n % p == 0) return 0;
+            result = -result;
+        }
+        return n > 1 ? -result : result;
+    }
+}
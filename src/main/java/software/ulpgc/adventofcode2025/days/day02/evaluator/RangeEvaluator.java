@@ -0,0 +1,22 @@
+package software.ulpgc.adventofcode2025.days.day02.evaluator;
+
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+
+/**
+ * Strategy interface for summing the valid IDs of a whole range at once.
+ *
+ * An {@link software.ulpgc.adventofcode2025.days.day02.rule.IdRule} judges one ID at a
+ * time, so its cost grows with the width of the range. A RangeEvaluator receives the
+ * range itself and is free to compute the sum without visiting every ID, for instance
+ * by generating only the IDs that can be valid.
+ */
+@FunctionalInterface
+public interface RangeEvaluator {
+    /**
+     * Computes the sum of all valid IDs in a range.
+     *
+     * @param range The range of IDs to evaluate, bounds inclusive
+     * @return The sum of the valid IDs in the range
+     */
+    long sumValidIds(IdRange range);
+}
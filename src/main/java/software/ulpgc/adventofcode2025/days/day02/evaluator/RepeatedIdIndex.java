@@ -0,0 +1,148 @@
+package software.ulpgc.adventofcode2025.days.day02.evaluator;
+
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticMultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticSimpleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.IdRule;
+import software.ulpgc.adventofcode2025.utils.DigitUtils;
+
+import java.util.stream.LongStream;
+
+/**
+ * Precomputed index of the valid IDs of a rule, answering range sums with two binary searches.
+ *
+ * When the same rule is queried over and over, re-deriving the answer for every range
+ * wastes work. This index enumerates once every ID that is made of a repeated digit
+ * pattern, keeps those accepted by the rule in a sorted {@code long[]}, and stores their
+ * prefix sums in a second {@code long[]}. The sum over any range is then the difference
+ * of two prefix sums, located by binary search.
+ *
+ * There are about 10^(L/2) repeated IDs of L digits, so enumerating every long (about
+ * 1.1 billion IDs, 9 GB per array) is not practical. The index therefore only covers IDs
+ * of up to {@code maxDigits} digits (12 by default: about one million IDs, 16 MB in total),
+ * and delegates the part of a range above that limit to a fallback evaluator, typically
+ * the closed-form evaluator of the same rule.
+ *
+ * Only IDs made of a repeated pattern are enumerated, so the index is meant for rules
+ * that reject every other ID, like the repetition rules of this puzzle.
+ */
+public class RepeatedIdIndex implements RangeEvaluator {
+    /**
+     * Default number of digits covered by the index.
+     */
+    public static final int DEFAULT_MAX_DIGITS = 12;
+
+    private final long[] ids;
+    private final long[] prefixSums;
+    private final long limit;
+    private final RangeEvaluator fallback;
+
+    private RepeatedIdIndex(long[] ids, long limit, RangeEvaluator fallback) {
+        this.ids = ids;
+        this.prefixSums = new long[ids.length + 1];
+        for (int i = 0; i < ids.length; i++) prefixSums[i + 1] = prefixSums[i] + ids[i];
+        this.limit = limit;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Builds the index of the IDs accepted by a rule, up to a number of digits.
+     *
+     * @param rule The rule selecting the IDs to index; must only accept repeated-pattern IDs
+     * @param maxDigits The number of digits covered by the index, between 1 and 18
+     * @param fallback The evaluator used for the part of a range above the index
+     * @return The index
+     */
+    public static RepeatedIdIndex build(IdRule rule, int maxDigits, RangeEvaluator fallback) {
+        if (maxDigits < 1 || maxDigits >= DigitUtils.MAX_DIGITS) {
+            throw new IllegalArgumentException("Invalid number of digits: " + maxDigits);
+        }
+        long[] ids = repeatedIds(maxDigits)
+                .filter(id -> rule.evaluate(id) != 0)
+                .toArray();
+        return new RepeatedIdIndex(ids, DigitUtils.pow10(maxDigits) - 1, fallback);
+    }
+
+    /**
+     * Builds the default index for {@link ArithmeticSimpleRepeatRule}, IDs made of two equal halves.
+     *
+     * @return The index, falling back to {@link SimpleRepeatEvaluator} above 12 digits
+     */
+    public static RepeatedIdIndex simple() {
+        return build(new ArithmeticSimpleRepeatRule(), DEFAULT_MAX_DIGITS, new SimpleRepeatEvaluator());
+    }
+
+    /**
+     * Builds the default index for {@link ArithmeticMultipleRepeatRule}, IDs made of a pattern repeated at least twice.
+     *
+     * @return The index, falling back to {@link MultipleRepeatEvaluator} above 12 digits
+     */
+    public static RepeatedIdIndex multiple() {
+        return build(new ArithmeticMultipleRepeatRule(), DEFAULT_MAX_DIGITS, new MultipleRepeatEvaluator());
+    }
+
+    /**
+     * Returns the number of indexed IDs.
+     *
+     * @return the size of the index
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Sums the valid IDs of a range: the indexed part with two binary searches over the
+     * prefix sums, the part above the index with the fallback evaluator.
+     *
+     * @param range The range of IDs to evaluate, bounds inclusive
+     * @return The sum of the valid IDs in the range
+     */
+    @Override
+    public long sumValidIds(IdRange range) {
+        if (range.start() > range.end()) return 0;
+
+        long sum = 0;
+        if (range.start() <= limit) {
+            int from = firstAtLeast(range.start());
+            int to = firstAtLeast(Math.min(range.end(), limit) + 1);
+            sum += prefixSums[to] - prefixSums[from];
+        }
+        if (range.end() > limit) {
+            sum += fallback.sumValidIds(new IdRange(Math.max(range.start(), limit + 1), range.end()));
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the index of the first ID not smaller than {@code value}, or the number of IDs.
+     */
+    private int firstAtLeast(long value) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ids[middle] < value) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Enumerates, sorted and without duplicates, every ID of up to maxDigits digits made
+     * of a pattern repeated at least twice.
+     */
+    private static LongStream repeatedIds(int maxDigits) {
+        LongStream.Builder ids = LongStream.builder();
+        for (int length = 2; length <= maxDigits; length++) {
+            for (int patternLength = 1; patternLength < length; patternLength++) {
+                if (length % patternLength != 0) continue;
+                long repunit = DigitUtils.repunit(patternLength, length / patternLength);
+                for (long pattern = DigitUtils.pow10(patternLength - 1); pattern < DigitUtils.pow10(patternLength); pattern++) {
+                    ids.add(pattern * repunit);
+                }
+            }
+        }
+        // IDs such as 111111 are generated once per pattern length that divides them
+        return ids.build().sorted().distinct();
+    }
+}
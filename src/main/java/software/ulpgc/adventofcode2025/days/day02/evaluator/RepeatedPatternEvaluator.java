@@ -0,0 +1,90 @@
+package software.ulpgc.adventofcode2025.days.day02.evaluator;
+
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.utils.DigitUtils;
+
+/**
+ * Base class for evaluators that sum IDs made of a repeated digit pattern arithmetically.
+ *
+ * An ID of L digits made of a k-digit pattern repeated m times (L = k·m) is the pattern
+ * multiplied by the repunit R = 1 + 10^k + 10^(2k) + ... + 10^((m-1)k); for example
+ * 123123 = 123 × 1001. The repeated IDs of a given length and repetition count inside
+ * a range are therefore the multiples of R whose quotient is a k-digit pattern, and
+ * their sum is R times the sum of an interval of patterns, which has a closed form.
+ *
+ * The range is split by digit length, and every length is summed in constant time,
+ * so the cost depends on the number of digit lengths in the range (at most 19 for
+ * a long), never on its width. Subclasses decide which repetition counts are valid.
+ */
+public abstract class RepeatedPatternEvaluator implements RangeEvaluator {
+    /**
+     * Sums the valid IDs of the range, one digit length at a time.
+     *
+     * Only positive IDs can be made of a repeated pattern, so the part of the range
+     * below 1 contributes nothing. Sums that exceed a long wrap around exactly like
+     * the sum of the individual IDs would.
+     *
+     * @param range The range of IDs to evaluate, bounds inclusive
+     * @return The sum of the valid IDs in the range
+     */
+    @Override
+    public long sumValidIds(IdRange range) {
+        long start = Math.max(range.start(), 1);
+        long end = range.end();
+        long sum = 0;
+
+        for (int length = DigitUtils.digits(start); start <= end && length <= DigitUtils.MAX_DIGITS; length++) {
+            long last = length == DigitUtils.MAX_DIGITS ? Long.MAX_VALUE : DigitUtils.pow10(length) - 1;
+            sum += sumOfLength(length, start, Math.min(end, last));
+            if (last == Long.MAX_VALUE) break;
+            start = last + 1;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the valid IDs of exactly {@code length} digits between {@code from} and {@code to}.
+     *
+     * @param length The number of digits of the IDs
+     * @param from The smallest ID to consider, with {@code length} digits
+     * @param to The largest ID to consider, with {@code length} digits
+     * @return The sum of the valid IDs of that length in the interval
+     */
+    protected abstract long sumOfLength(int length, long from, long to);
+
+    /**
+     * Sums the IDs between {@code from} and {@code to} that consist of a pattern of
+     * {@code length / repetitions} digits repeated {@code repetitions} times.
+     *
+     * @param length The number of digits of the IDs, a multiple of {@code repetitions}
+     * @param repetitions The number of times the pattern is repeated
+     * @param from The smallest ID to consider, with {@code length} digits
+     * @param to The largest ID to consider, with {@code length} digits
+     * @return The sum of the repeated IDs in the interval
+     */
+    protected static long sumRepeated(int length, int repetitions, long from, long to) {
+        int patternLength = length / repetitions;
+        long repunit = DigitUtils.repunit(patternLength, repetitions);
+
+        // Patterns have exactly patternLength digits, so no leading zeros
+        long first = Math.max(DigitUtils.pow10(patternLength - 1), ceilDiv(from, repunit));
+        long last = Math.min(DigitUtils.pow10(patternLength) - 1, to / repunit);
+        if (first > last) return 0;
+
+        return repunit * sumOfInterval(first, last);
+    }
+
+    /**
+     * Computes first + (first + 1) + ... + last, halving whichever factor is even so
+     * the intermediate product stays exact.
+     */
+    private static long sumOfInterval(long first, long last) {
+        long count = last - first + 1;
+        long ends = first + last;
+        return count % 2 == 0 ? (count / 2) * ends : count * (ends / 2);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
@@ -0,0 +1,15 @@
+package software.ulpgc.adventofcode2025.days.day02.evaluator;
+
+/**
+ * Range evaluator summing the IDs made of two identical halves, like
+ * {@link software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule}.
+ *
+ * Only even digit lengths can be split into two halves, and for those the valid IDs
+ * are exactly the patterns of half the length repeated twice.
+ */
+public class SimpleRepeatEvaluator extends RepeatedPatternEvaluator {
+    @Override
+    protected long sumOfLength(int length, long from, long to) {
+        return length % 2 == 0 ? sumRepeated(length, 2, from, to) : 0;
+    }
+}
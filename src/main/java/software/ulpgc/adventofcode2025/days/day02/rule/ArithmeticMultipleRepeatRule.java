@@ -0,0 +1,105 @@
+package software.ulpgc.adventofcode2025.days.day02.rule;
+
+import software.ulpgc.adventofcode2025.utils.DigitUtils;
+
+import java.util.stream.IntStream;
+
+/**
+ * Allocation-free variant of {@link MultipleRepeatRule} that works on the digits arithmetically.
+ *
+ * An ID of L digits made of a k-digit block repeated p times (L = k·p) is the block
+ * multiplied by the repunit 1 + 10^k + ... + 10^((p-1)k). For every digit length the
+ * repunits of its prime repetition counts are computed once, up front, so evaluating
+ * an ID is a digit count followed by at most a handful of remainder checks. The results
+ * are identical to {@link MultipleRepeatRule}, and no object is created per ID.
+ *
+ * The batch methods are specialised: a range is walked one digit length at a time, so
+ * the repunits are looked up once per length and lengths without any (a single digit)
+ * are skipped entirely.
+ */
+public class ArithmeticMultipleRepeatRule implements IdRule {
+    /**
+     * For every digit length L, the repunits of the prime repetition counts dividing L.
+     */
+    private static final long[][] REPUNITS = new long[DigitUtils.MAX_DIGITS + 1][];
+
+    static {
+        for (int length = 0; length <= DigitUtils.MAX_DIGITS; length++) {
+            int digits = length;
+            REPUNITS[length] = IntStream.rangeClosed(2, digits)
+                    .filter(p -> digits % p == 0 && isPrime(p))
+                    .mapToLong(p -> DigitUtils.repunit(digits / p, p))
+                    .toArray();
+        }
+    }
+
+    /**
+     * Evaluates whether an ID consists of a block repeated a prime number of times.
+     *
+     * The ID is valid if, for some prime p dividing its number of digits, it is a
+     * multiple of the repunit of p blocks. Since the ID has exactly L digits, the
+     * quotient is then a block of exactly L/p digits, so the check matches the String
+     * comparison of {@link MultipleRepeatRule} exactly.
+     *
+     * @param id The ID to evaluate
+     * @return The ID value if it has a prime-repetition pattern, 0 otherwise
+     */
+    @Override
+    public long evaluate(long id) {
+        if (id <= 0) return 0;
+        return isRepeated(id, REPUNITS[DigitUtils.digits(id)]) ? id : 0;
+    }
+
+    /**
+     * Sums the IDs with a prime-repetition pattern in a slice of an array, without
+     * calling {@link #evaluate(long)} through the interface.
+     */
+    @Override
+    public long evaluate(long[] ids, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            long id = ids[i];
+            if (id > 0 && isRepeated(id, REPUNITS[DigitUtils.digits(id)])) sum += id;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the IDs with a prime-repetition pattern in a range, one digit length at a time.
+     */
+    @Override
+    public long sumValidIds(long start, long end) {
+        long sum = 0;
+        for (long from = Math.max(start, 1); from <= end; ) {
+            int length = DigitUtils.digits(from);
+            long to = Math.min(end, DigitUtils.largestWithDigits(length));
+            long[] repunits = REPUNITS[length];
+            if (repunits.length > 0) sum += sumRepeated(from, to, repunits);
+            if (to == end) break;
+            from = to + 1;
+        }
+        return sum;
+    }
+
+    private static long sumRepeated(long from, long to, long[] repunits) {
+        long sum = 0;
+        for (long id = from; ; id++) {
+            if (isRepeated(id, repunits)) sum += id;
+            if (id == to) return sum;
+        }
+    }
+
+    private static boolean isRepeated(long id, long[] repunits) {
+        for (long repunit : repunits) {
+            if (id % repunit == 0) return true;
+        }
+        return false;
+    }
+
+    private static boolean isPrime(int n) {
+        for (int d = 2; d * d <= n; d++) {
+            if (n % d == 0) return false;
+        }
+        return n >= 2;
+    }
+}
@@ -0,0 +1,89 @@
+package software.ulpgc.adventofcode2025.days.day02.rule;
+
+import software.ulpgc.adventofcode2025.utils.DigitUtils;
+
+/**
+ * Allocation-free variant of {@link SimpleRepeatRule} that works on the digits arithmetically.
+ *
+ * An ID of 2k digits whose two halves are equal is the half multiplied by 10^k + 1
+ * (for example 123123 = 123 × 1001). Instead of converting the ID to a String and
+ * comparing its halves, this rule counts the digits with a table of powers of ten and
+ * checks whether the ID is a multiple of 10^k + 1. The results are identical to
+ * {@link SimpleRepeatRule}, and no object is created per ID.
+ *
+ * The batch methods are specialised: a range is walked one digit length at a time, so
+ * the digit count and the divisor are computed once per length, odd lengths are skipped
+ * entirely, and the inner loop jumps from one multiple of the divisor to the next, so
+ * it only visits the valid IDs.
+ */
+public class ArithmeticSimpleRepeatRule implements IdRule {
+    /**
+     * Evaluates whether an ID has its first half repeated as the second half.
+     *
+     * The ID is considered valid if:
+     * 1. It is positive and has an even number of digits, 2k
+     * 2. It is a multiple of 10^k + 1, i.e. its upper k digits equal its lower k digits
+     *
+     * A multiple of 10^k + 1 with exactly 2k digits always has a k-digit upper half
+     * without leading zeros, so the check matches the String comparison exactly.
+     *
+     * @param id The ID to evaluate
+     * @return The ID value if it has repeated halves, 0 otherwise
+     */
+    @Override
+    public long evaluate(long id) {
+        if (id <= 0) return 0;
+        int length = DigitUtils.digits(id);
+        if (length % 2 != 0) return 0;
+        return id % DigitUtils.repunit(length / 2, 2) == 0 ? id : 0;
+    }
+
+    /**
+     * Sums the IDs with repeated halves in a slice of an array, without calling
+     * {@link #evaluate(long)} through the interface.
+     */
+    @Override
+    public long evaluate(long[] ids, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            long id = ids[i];
+            if (id <= 0) continue;
+            int length = DigitUtils.digits(id);
+            if (length % 2 == 0 && id % DigitUtils.repunit(length / 2, 2) == 0) sum += id;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the IDs with repeated halves in a range, one digit length at a time.
+     */
+    @Override
+    public long sumValidIds(long start, long end) {
+        long sum = 0;
+        for (long from = Math.max(start, 1); from <= end; ) {
+            int length = DigitUtils.digits(from);
+            long to = Math.min(end, DigitUtils.largestWithDigits(length));
+            if (length % 2 == 0) sum += sumMultiples(from, to, DigitUtils.repunit(length / 2, 2));
+            if (to == end) break;
+            from = to + 1;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the multiples of a divisor in [from, to], stepping from one multiple to the next.
+     *
+     * Distances are compared as {@code to - id}, which never overflows since both are
+     * positive, so the loop stops before stepping past {@code to} even near Long.MAX_VALUE.
+     */
+    private static long sumMultiples(long from, long to, long divisor) {
+        long gap = (divisor - from % divisor) % divisor;
+        if (gap > to - from) return 0;
+
+        long sum = 0;
+        for (long id = from + gap; ; id += divisor) {
+            sum += id;
+            if (to - id < divisor) return sum;
+        }
+    }
+}
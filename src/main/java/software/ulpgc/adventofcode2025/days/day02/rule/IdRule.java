@@ -5,6 +5,12 @@ package software.ulpgc.adventofcode2025.days.day02.rule;
  *
  * Implementations of this interface define different validation rules for IDs,
  * such as checking for repetition patterns in the ID's digit sequence.
+ *
+ * Besides the per-ID {@link #evaluate(long)}, the interface offers two batch entry
+ * points that sum whole ranges or arrays of IDs. Calling {@code evaluate} once per ID
+ * through the interface leaves the JIT a megamorphic call site it cannot inline; the
+ * batch methods run the loop inside the rule, where the call is monomorphic, and
+ * implementations can override them with specialised loops.
  */
 public interface IdRule {
     /**
@@ -17,4 +23,35 @@ public interface IdRule {
      * @return The ID value if valid, 0 otherwise
      */
     long evaluate(long id);
-}
\ No newline at end of file
+
+    /**
+     * Sums the valid IDs of a slice of an array.
+     *
+     * @param ids The IDs to evaluate
+     * @param from The index of the first ID to evaluate, inclusive
+     * @param to The index of the last ID to evaluate, exclusive
+     * @return The sum of the valid IDs in {@code ids[from, to)}
+     */
+    default long evaluate(long[] ids, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) sum += evaluate(ids[i]);
+        return sum;
+    }
+
+    /**
+     * Sums the valid IDs of a range.
+     *
+     * @param start The first ID of the range, inclusive
+     * @param end The last ID of the range, inclusive
+     * @return The sum of the valid IDs in the range, 0 if end is before start
+     */
+    default long sumValidIds(long start, long end) {
+        if (start > end) return 0;
+        long sum = 0;
+        // The loop stops on the last ID instead of after it, so an end of Long.MAX_VALUE does not overflow
+        for (long id = start; ; id++) {
+            sum += evaluate(id);
+            if (id == end) return sum;
+        }
+    }
+}
@@ -1,29 +1,55 @@
 package software.ulpgc.adventofcode2025.days.day02.service;
 
 import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.RangeEvaluator;
 import software.ulpgc.adventofcode2025.days.day02.rule.IdRule;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class IdProcessor {
-    private final IdRule rule;
+    /**
+     * Smallest sub-range worth handing to a separate fork-join task.
+     */
+    private static final long MIN_SPLIT_WIDTH = 10_000;
+
+    /**
+     * Number of sub-ranges scheduled per worker thread, so that uneven sub-ranges
+     * still keep every worker busy until the end.
+     */
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final RangeEvaluator evaluator;
 
     /**
      * Constructs an IdProcessor with the specified validation rule.
      *
+     * The rule is applied to every ID of every range, so the cost grows with the
+     * width of the ranges.
+     *
      * @param rule The rule to use for validating and evaluating IDs
      */
     public IdProcessor(IdRule rule) {
-        this.rule = rule;
+        this((RangeEvaluator) range -> range.sumValidIds(rule));
+    }
+
+    /**
+     * Constructs an IdProcessor that sums each range with the specified evaluator.
+     *
+     * @param evaluator The evaluator computing the sum of the valid IDs of a range
+     */
+    public IdProcessor(RangeEvaluator evaluator) {
+        this.evaluator = evaluator;
     }
 
     /**
      * Processes a list of ID ranges and calculates the sum of all valid IDs.
      *
-     * Each range string is parsed into an IdRange object, which then evaluates
-     * each ID within that range using the configured rule. The rule returns the
-     * ID value if it's valid, or 0 if it's invalid. All valid IDs are summed
-     * across all ranges to produce the final result.
+     * Each range string is parsed into an IdRange object, whose valid IDs are then
+     * summed by the configured evaluator: either a rule applied to each ID within the
+     * range, returning the ID value if it's valid or 0 if it's invalid, or an evaluator
+     * that computes the sum of the whole range directly. The sums of all ranges are
+     * added up to produce the final result.
      *
      * @param ranges A list of range strings in the format "start-end" (e.g., "100-200")
      * @return The sum of all valid IDs across all ranges
@@ -31,7 +57,39 @@ public class IdProcessor {
     public long solve(List<String> ranges) {
         return ranges.stream()
                 .map(IdRange::parse)
-                .mapToLong(range -> range.sumValidIds(rule))
+                .mapToLong(evaluator::sumValidIds)
+                .sum();
+    }
+
+    /**
+     * Processes a list of ID ranges in parallel, counting every distinct ID only once.
+     *
+     * Unlike {@link #solve(List)}, which evaluates overlapping ranges twice, this mode
+     * first merges overlapping and adjacent ranges, so an ID listed in several ranges
+     * contributes to the sum once. The merged ranges are then cut at digit-length
+     * boundaries and split into balanced sub-ranges, sized so that every worker of the
+     * common fork-join pool receives several of them, and the sub-ranges are evaluated
+     * in parallel. A single huge range is therefore spread over all cores instead of
+     * being evaluated by one thread.
+     *
+     * On inputs without overlapping ranges the result is identical to {@link #solve(List)}.
+     *
+     * @param ranges A list of range strings in the format "start-end" (e.g., "100-200")
+     * @return The sum of all distinct valid IDs across all ranges
+     */
+    public long solveParallel(List<String> ranges) {
+        List<IdRange> merged = IdRange.merge(ranges.stream().map(IdRange::parse).toList());
+
+        // Counted as a double, since the merged ranges may cover more IDs than a long can count
+        double ids = merged.stream().mapToDouble(range -> range.end() - (double) range.start() + 1).sum();
+        int tasks = ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_WORKER;
+        long maxWidth = Math.max(MIN_SPLIT_WIDTH, (long) Math.ceil(ids / tasks));
+
+        return merged.stream()
+                .flatMap(range -> range.split(maxWidth).stream())
+                .toList()
+                .parallelStream()
+                .mapToLong(evaluator::sumValidIds)
                 .sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package software.ulpgc.adventofcode2025.days.day03;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates battery banks for Day 3.
+ *
+ * The size is the number of banks. Every bank is a line of 100 joltage digits
+ * between 1 and 9, like the puzzle input.
+ */
+public class Day03Generator implements InputGenerator {
+    private static final int BANK_LENGTH = 100;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] bank = new char[BANK_LENGTH];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < BANK_LENGTH; j++) {
+                bank[j] = (char) ('1' + random.nextInt(9));
+            }
+            lines.accept(new String(bank));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package software.ulpgc.adventofcode2025.days.day03;
 import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.core.MappedInputMapper;
 import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
 import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
 import software.ulpgc.adventofcode2025.days.day03.service.BankProcessor;
@@ -13,14 +14,20 @@ public class Main {
      * AdvancedBankRule (extracts 12 digits). Each rule identifies specific digits
      * based on finding maximum values within constrained ranges.
      *
+     * Each processor is used as a mapped input mapper: the file is memory-mapped, cut
+     * into chunks at line boundaries and evaluated in parallel straight from its bytes,
+     * so the banks are never copied into Strings.
+     *
      * @param args Command line arguments (not used)
      */
     public static void main(String[] args){
 
-        var input = new InputProvider("src/main/resources/inputs").provide("input_day03.txt", lines -> lines);
+        var provider = new InputProvider("src/main/resources/inputs");
+        MappedInputMapper<Long> partOne = new BankProcessor(new SimpleBankRule())::solveParallel;
+        MappedInputMapper<Long> partTwo = new BankProcessor(new AdvancedBankRule())::solveParallel;
 
-        System.out.println("Total 1: " + new BankProcessor(new SimpleBankRule()).solve(input));
-        System.out.println("Total 2: " + new BankProcessor(new AdvancedBankRule()).solve(input));
+        System.out.println("Total 1: " + provider.provideMapped("input_day03.txt", partOne));
+        System.out.println("Total 2: " + provider.provideMapped("input_day03.txt", partTwo));
 
 
     }
@@ -0,0 +1,170 @@
+package software.ulpgc.adventofcode2025.days.day03.domain;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The largest subsequences of a bank for every output length, computed in a single pass.
+ *
+ * Evaluating a bank once per output length repeats almost all of the work. This class
+ * runs the monotonic stack of
+ * {@link software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule} once,
+ * with no limit on the number of digits it may discard, and records the order in which
+ * the digits are removed: first the digits popped by a larger one, then the remaining
+ * non-increasing stack from its top. Every removal drops the first digit that is smaller
+ * than its successor (or the last digit when there is none), which is the best single
+ * digit to drop, and repeating that greedy step keeps the result optimal. So the largest
+ * subsequence of length k is made of the digits removed last: those whose removal rank
+ * is at least n - k, in bank order.
+ *
+ * The pass takes O(n) time and memory for all lengths at once; each selection is then
+ * read back in O(n). Values of up to 18 digits fit in a long; longer ones are returned
+ * as digit strings or {@link BigInteger}s.
+ *
+ * Example: for the bank "818181911112111" the removal ranks keep "9" for k = 1,
+ * "92" for k = 2, and "888911112111" for k = 12.
+ */
+public final class BankSelections {
+    /**
+     * The longest selection whose value always fits in a long.
+     */
+    public static final int MAX_LONG_LENGTH = 18;
+
+    private final String bank;
+    private final int[] ranks;
+
+    private BankSelections(String bank, int[] ranks) {
+        this.bank = bank;
+        this.ranks = ranks;
+    }
+
+    /**
+     * Computes the selections of every length for a bank.
+     *
+     * @param bank The bank code string to process
+     * @return The selections of the bank, for every length from 1 to its number of digits
+     */
+    public static BankSelections of(String bank) {
+        int n = bank.length();
+        int[] ranks = new int[n];
+        int[] stack = new int[n];
+        int top = 0;
+        int removed = 0;
+
+        for (int i = 0; i < n; i++) {
+            char digit = bank.charAt(i);
+            while (top > 0 && bank.charAt(stack[top - 1]) < digit) {
+                ranks[stack[--top]] = removed++;
+            }
+            stack[top++] = i;
+        }
+        // The stack is now non-increasing: the best digit to drop is always the last one
+        while (top > 0) ranks[stack[--top]] = removed++;
+
+        return new BankSelections(bank, ranks);
+    }
+
+    /**
+     * Returns the number of digits of the bank, which is also the longest selection.
+     *
+     * @return the bank length
+     */
+    public int length() {
+        return ranks.length;
+    }
+
+    /**
+     * Returns the digits of the largest subsequence of the given length.
+     *
+     * @param k The length of the selection, between 1 and {@link #length()}
+     * @return The selected digits, in bank order
+     */
+    public String digits(int k) {
+        char[] digits = new char[k];
+        int threshold = threshold(k);
+        for (int i = 0, j = 0; j < k; i++) {
+            if (ranks[i] >= threshold) digits[j++] = bank.charAt(i);
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Returns the value of the largest subsequence of the given length.
+     *
+     * @param k The length of the selection, between 1 and {@value #MAX_LONG_LENGTH}
+     * @return The value of the selected digits
+     * @throws IllegalArgumentException if the selection may not fit in a long
+     */
+    public long value(int k) {
+        if (k > MAX_LONG_LENGTH) throw new IllegalArgumentException("Selection of " + k + " digits does not fit in a long");
+        long value = 0;
+        int threshold = threshold(k);
+        for (int i = 0, j = 0; j < k; i++) {
+            if (ranks[i] < threshold) continue;
+            value = value * 10 + (bank.charAt(i) - '0');
+            j++;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the largest subsequence of the given length, of any size.
+     *
+     * @param k The length of the selection, between 1 and {@link #length()}
+     * @return The value of the selected digits
+     */
+    public BigInteger bigValue(int k) {
+        return k <= MAX_LONG_LENGTH ? BigInteger.valueOf(value(k)) : new BigInteger(digits(k));
+    }
+
+    /**
+     * Returns the values of the selections of every length that fits in a long.
+     *
+     * The bank is scanned once to gather the at most {@value #MAX_LONG_LENGTH} digits
+     * these selections are made of; every value is then built from those digits alone.
+     *
+     * @return The values, where index k - 1 holds the value of length k
+     */
+    public long[] values() {
+        int longest = Math.min(length(), MAX_LONG_LENGTH);
+        int[] positions = new int[longest];
+        int threshold = ranks.length - longest;
+        for (int i = 0, j = 0; j < longest; i++) {
+            if (ranks[i] >= threshold) positions[j++] = i;
+        }
+
+        long[] values = new long[longest];
+        for (int k = 1; k <= longest; k++) {
+            long value = 0;
+            for (int position : positions) {
+                if (ranks[position] >= ranks.length - k) value = value * 10 + (bank.charAt(position) - '0');
+            }
+            values[k - 1] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Returns the values of the selections of every length.
+     *
+     * The values hold n(n + 1)/2 digits in total, so this is quadratic in the bank length.
+     *
+     * @return The values, where index k - 1 holds the value of length k
+     */
+    public List<BigInteger> bigValues() {
+        List<BigInteger> values = new ArrayList<>(length());
+        for (int k = 1; k <= length(); k++) values.add(bigValue(k));
+        return values;
+    }
+
+    /**
+     * Returns the lowest removal rank kept in a selection of length k.
+     */
+    private int threshold(int k) {
+        if (k < 1 || k > ranks.length) {
+            throw new IllegalArgumentException("Invalid selection length " + k + " for a bank of " + ranks.length + " digits");
+        }
+        return ranks.length - k;
+    }
+}
@@ -0,0 +1,99 @@
+package software.ulpgc.adventofcode2025.days.day03.domain;
+
+/**
+ * Sparse table answering "index of the largest digit in a window" of a bank in constant time.
+ *
+ * {@link software.ulpgc.adventofcode2025.days.day03.rule.BankRule#findMaxIndex} scans the
+ * whole window on every call. When the same bank is evaluated many times, for several
+ * output lengths or windows, the bank can be preprocessed once into a sparse table:
+ * level j stores, for every position i, the index of the largest digit in the window of
+ * 2^j digits starting at i. Any window is the union of two overlapping power-of-two
+ * windows, so a query is two lookups and a comparison.
+ *
+ * Ties are broken towards the leftmost index, exactly like {@code findMaxIndex}: the two
+ * halves of a window are combined keeping the left index unless the right digit is
+ * strictly larger.
+ *
+ * Building the table takes O(n log n) time and n·(log2(n) + 1) ints of memory, so it is
+ * only worth it for banks that are queried repeatedly.
+ */
+public final class MaxDigitTable {
+    private final String bank;
+    private final byte[] digits;
+    private final int[][] levels;
+
+    private MaxDigitTable(String bank) {
+        this.bank = bank;
+        int n = bank.length();
+        this.digits = new byte[n];
+        for (int i = 0; i < n; i++) digits[i] = (byte) bank.charAt(i);
+
+        int levelCount = n == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(n);
+        this.levels = new int[levelCount][];
+        if (levelCount == 0) return;
+
+        levels[0] = new int[n];
+        for (int i = 0; i < n; i++) levels[0][i] = i;
+        for (int level = 1; level < levelCount; level++) {
+            int half = 1 << (level - 1);
+            int[] previous = levels[level - 1];
+            int[] current = new int[n - (1 << level) + 1];
+            for (int i = 0; i < current.length; i++) {
+                current[i] = larger(previous[i], previous[i + half]);
+            }
+            levels[level] = current;
+        }
+    }
+
+    /**
+     * Preprocesses a bank into a sparse table.
+     *
+     * @param bank The bank code string to index
+     * @return The table over the digits of the bank
+     */
+    public static MaxDigitTable of(String bank) {
+        return new MaxDigitTable(bank);
+    }
+
+    /**
+     * Returns the indexed bank.
+     *
+     * @return the bank code string
+     */
+    public String bank() {
+        return bank;
+    }
+
+    /**
+     * Returns the number of digits of the bank.
+     *
+     * @return the bank length
+     */
+    public int length() {
+        return digits.length;
+    }
+
+    /**
+     * Finds the index of the largest digit within a window, in constant time.
+     *
+     * Returns the same index as {@code BankRule.findMaxIndex(bank, start, end)}, including
+     * its behaviour for windows where end is before start, which return start.
+     *
+     * @param start The starting index of the window (inclusive)
+     * @param end The ending index of the window (inclusive)
+     * @return The leftmost index of the largest digit in the window
+     */
+    public int findMaxIndex(int start, int end) {
+        if (end <= start) return start;
+        int level = 31 - Integer.numberOfLeadingZeros(end - start + 1);
+        int[] windows = levels[level];
+        return larger(windows[start], windows[end - (1 << level) + 1]);
+    }
+
+    /**
+     * Returns the index holding the larger digit, the left one on ties.
+     */
+    private int larger(int left, int right) {
+        return digits[right] > digits[left] ? right : left;
+    }
+}
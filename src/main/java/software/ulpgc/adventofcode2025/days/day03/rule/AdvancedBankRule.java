@@ -1,5 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day03.rule;
 
+import software.ulpgc.adventofcode2025.days.day03.domain.MaxDigitTable;
+
 /**
  * Advanced extraction rule that extracts a 12-digit value from a bank code string.
  *
@@ -10,10 +12,31 @@ package software.ulpgc.adventofcode2025.days.day03.rule;
  */
 public class AdvancedBankRule implements BankRule {
     /**
-     * The number of digits to extract from each bank code.
+     * The number of digits extracted by default from each bank code.
      */
     private static final int J_LENGTH = 12;
 
+    private final int length;
+
+    /**
+     * Constructs a rule that extracts 12 digits.
+     */
+    public AdvancedBankRule() {
+        this(J_LENGTH);
+    }
+
+    /**
+     * Constructs a rule that extracts the given number of digits.
+     *
+     * The windows are rescanned for every digit, so a bank costs O(n·length); for long
+     * banks and large lengths, {@link MonotonicStackBankRule} selects the same digits in O(n).
+     *
+     * @param length The number of digits to extract, between 1 and 18 so that the value fits in a long
+     */
+    public AdvancedBankRule(int length) {
+        if (length < 1 || length > 18) throw new IllegalArgumentException("Invalid number of digits: " + length);
+        this.length = length;
+    }
 
     /**
      * Extracts a 12-digit numerical value from the bank code string.
@@ -37,17 +60,50 @@ public class AdvancedBankRule implements BankRule {
      */
     @Override
     public long evaluate (String bank) {
+        return evaluate((CharSequence) bank);
+    }
+
+    /**
+     * Extracts the value from a bank read in place, without creating any object.
+     *
+     * @param bank The digits of the bank (at least {@code length} of them)
+     * @return The same value as {@link #evaluate(String)} on the same digits
+     */
+    @Override
+    public long evaluate(CharSequence bank) {
+        return evaluate(bank, null);
+    }
+
+    /**
+     * Extracts the value from a preprocessed bank, answering every window in constant time.
+     *
+     * @param table The preprocessed bank (must have at least {@code length} characters)
+     * @return The same value as {@link #evaluate(String)} on the bank
+     */
+    @Override
+    public long evaluate(MaxDigitTable table) {
+        return evaluate(table.bank(), table);
+    }
+
+    /**
+     * Runs the window selection, finding each window maximum in the table, or by scanning the bank without one.
+     */
+    private long evaluate(CharSequence bank, MaxDigitTable table) {
         int len = bank.length();
-        StringBuilder joltagestr = new StringBuilder();
+        long joltage = 0;
         int currentLastIdx = -1;
 
-        for (int k = 0; k < J_LENGTH; k++) {
+        for (int k = 0; k < length; k++) {
             int start = currentLastIdx + 1;
-            int end = len - J_LENGTH + k;
+            int end = len - length + k;
 
-            currentLastIdx = BankRule.findMaxIndex(bank, start, end);
-            joltagestr.append(bank.charAt(currentLastIdx));
+            currentLastIdx = findMaxIndex(bank, table, start, end);
+            joltage = joltage * 10 + (bank.charAt(currentLastIdx) - '0');
         }
-        return Long.parseLong(joltagestr.toString());
+        return joltage;
+    }
+
+    private static int findMaxIndex(CharSequence bank, MaxDigitTable table, int start, int end) {
+        return table == null ? BankRule.findMaxIndex(bank, start, end) : table.findMaxIndex(start, end);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day03.rule;
 
+import software.ulpgc.adventofcode2025.days.day03.domain.MaxDigitTable;
+
 /**
  * Strategy interface for extracting numerical values from bank code strings.
  *
@@ -19,6 +21,33 @@ public interface BankRule {
      */
     long evaluate (String bank);
 
+    /**
+     * Extracts a numerical value from a bank read in place, such as a line of a
+     * memory-mapped file.
+     *
+     * Rules override this method to read the digits straight from the sequence; by
+     * default the bank is copied into a String and evaluated as usual.
+     *
+     * @param bank The digits of the bank
+     * @return The extracted numerical value as a long integer, the same as {@code evaluate(bank.toString())}
+     */
+    default long evaluate(CharSequence bank) {
+        return evaluate(bank.toString());
+    }
+
+    /**
+     * Extracts a numerical value from a bank preprocessed into a {@link MaxDigitTable}.
+     *
+     * Rules built on window-maximum queries override this method to answer each query
+     * in constant time from the table; by default the rule simply evaluates the bank.
+     *
+     * @param table The preprocessed bank
+     * @return The extracted numerical value as a long integer, the same as {@code evaluate(table.bank())}
+     */
+    default long evaluate(MaxDigitTable table) {
+        return evaluate(table.bank());
+    }
+
     /**
      * Utility method that finds the index of the maximum character within a specified range.
      *
@@ -28,15 +57,20 @@ public interface BankRule {
      *
      * This is a reusable utility method available to all implementations of BankRule.
      *
-     * @param s The string to search
+     * @param s The characters to search
      * @param start The starting index of the search range (inclusive)
      * @param end The ending index of the search range (inclusive)
      * @return The index of the maximum character in the specified range
      */
-    static int findMaxIndex(String s, int start, int end) {
+    static int findMaxIndex(CharSequence s, int start, int end) {
         int maxIdx = start;
+        if (end <= start) return maxIdx;
+        // The current maximum is kept in a local, so every character is read only once
+        char max = s.charAt(start);
         for (int i = start + 1; i <= end; i++) {
-            if (s.charAt(i) > s.charAt(maxIdx)) {
+            char c = s.charAt(i);
+            if (c > max) {
+                max = c;
                 maxIdx = i;
             }
         }
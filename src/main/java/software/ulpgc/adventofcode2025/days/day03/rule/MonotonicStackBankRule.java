@@ -0,0 +1,167 @@
+package software.ulpgc.adventofcode2025.days.day03.rule;
+
+/**
+ * Linear-time extraction rule that selects the largest subsequence of a given length.
+ *
+ * {@link AdvancedBankRule} rescans a window of the bank for every output digit, which
+ * costs O(n·k) per bank. This rule reads the bank once, keeping the digits selected so
+ * far on a stack that is decreasing from bottom to top: a new digit pops every smaller
+ * digit on top of the stack, as long as enough digits remain to still fill all k
+ * positions. Every digit is pushed and popped at most once, so a bank is processed in
+ * O(n) whatever the value of k.
+ *
+ * The selected digits are the lexicographically largest subsequence of length k, which
+ * is unique, so the result is identical to the window-scanning rules: with a length of
+ * 2 it matches {@link SimpleBankRule}, with a length of 12 {@link AdvancedBankRule}.
+ *
+ * The value is accumulated arithmetically, without building a String. A long holds any
+ * 18-digit value; for longer selections, {@link #select(String)} returns the digits.
+ *
+ * The pops depend on the data and are hard to predict, so on short banks with a small k
+ * (100 digits, k = 12, like the puzzle) the window scan of {@link AdvancedBankRule} is
+ * slightly faster. The stack pays off on long banks: with 10000 digits and k = 18 it is
+ * about seven times faster, and the gap grows with k.
+ *
+ * To get the selections of many lengths of the same bank, use
+ * {@link software.ulpgc.adventofcode2025.days.day03.domain.BankSelections}, which runs
+ * the stack once for all of them.
+ */
+public class MonotonicStackBankRule implements BankRule {
+    /**
+     * The number of digits selected by default, as in {@link AdvancedBankRule}.
+     */
+    public static final int DEFAULT_LENGTH = 12;
+
+    /**
+     * The longest selection whose stack fits in a long, one decimal digit per level.
+     */
+    private static final int MAX_STACKED_LENGTH = 18;
+
+    private final int length;
+
+    /**
+     * Constructs a rule that selects {@value #DEFAULT_LENGTH} digits.
+     */
+    public MonotonicStackBankRule() {
+        this(DEFAULT_LENGTH);
+    }
+
+    /**
+     * Constructs a rule that selects the given number of digits.
+     *
+     * @param length The number of digits to select, at least 1
+     */
+    public MonotonicStackBankRule(int length) {
+        if (length < 1) throw new IllegalArgumentException("Invalid number of digits: " + length);
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of digits selected from every bank.
+     *
+     * @return the output length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Selects the largest subsequence of the configured length and returns its value.
+     *
+     * @param bank The bank code string to process (must have at least {@code length} characters)
+     * @return The value of the selected digits
+     * @throws IllegalArgumentException if the bank is shorter than the output length
+     * @throws ArithmeticException if the selected value does not fit in a long
+     */
+    @Override
+    public long evaluate(String bank) {
+        return evaluate((CharSequence) bank);
+    }
+
+    /**
+     * Selects the largest subsequence of a bank read in place and returns its value.
+     *
+     * Up to 18 digits the stack itself is kept in a long, one decimal digit per level,
+     * so the value is built while scanning and no object is created per bank.
+     *
+     * @param bank The digits of the bank (at least {@code length} of them)
+     * @return The value of the selected digits
+     * @throws IllegalArgumentException if the bank is shorter than the output length
+     * @throws ArithmeticException if the selected value does not fit in a long
+     */
+    @Override
+    public long evaluate(CharSequence bank) {
+        if (length > MAX_STACKED_LENGTH) {
+            long value = 0;
+            for (char digit : selectDigits(bank)) {
+                value = Math.addExact(Math.multiplyExact(value, 10), digit - '0');
+            }
+            return value;
+        }
+
+        int n = checkedLength(bank);
+        long stack = 0;
+        int top = 0;
+        int drops = n - length;
+        for (int i = 0; i < n; i++) {
+            int digit = bank.charAt(i) - '0';
+            while (drops > 0 && top > 0 && stack % 10 < digit) {
+                stack /= 10;
+                top--;
+                drops--;
+            }
+            if (top < length) {
+                stack = stack * 10 + digit;
+                top++;
+            } else {
+                drops--;
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Selects the largest subsequence of the configured length and returns its digits.
+     *
+     * Unlike {@link #evaluate(String)}, this works for any output length.
+     *
+     * @param bank The bank code string to process (must have at least {@code length} characters)
+     * @return The selected digits, in bank order
+     * @throws IllegalArgumentException if the bank is shorter than the output length
+     */
+    public String select(String bank) {
+        return new String(selectDigits(bank));
+    }
+
+    /**
+     * Runs the monotonic-stack pass over the bank.
+     *
+     * {@code drops} counts the digits that may still be discarded: once it reaches 0,
+     * every remaining digit must be kept, so the stack can no longer shrink.
+     */
+    private char[] selectDigits(CharSequence bank) {
+        int n = checkedLength(bank);
+
+        char[] stack = new char[length];
+        int top = 0;
+        int drops = n - length;
+        for (int i = 0; i < n; i++) {
+            char digit = bank.charAt(i);
+            while (drops > 0 && top > 0 && stack[top - 1] < digit) {
+                top--;
+                drops--;
+            }
+            if (top < length) stack[top++] = digit;
+            else drops--;
+        }
+        return stack;
+    }
+
+    private int checkedLength(CharSequence bank) {
+        int n = bank.length();
+        if (n < length) {
+            throw new IllegalArgumentException("Bank of " + n + " digits is shorter than " + length);
+        }
+        return n;
+    }
+}
@@ -1,5 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day03.rule;
 
+import software.ulpgc.adventofcode2025.days.day03.domain.MaxDigitTable;
+
 /**
  * Simple extraction rule that extracts a 2-digit value from a bank code string.
  *
@@ -29,10 +31,43 @@ public class SimpleBankRule implements BankRule {
      */
     @Override
     public long evaluate (String bank) {
+        return evaluate((CharSequence) bank);
+    }
+
+    /**
+     * Extracts the value from a bank read in place, without creating any object.
+     *
+     * @param bank The digits of the bank
+     * @return The same value as {@link #evaluate(String)} on the same digits
+     */
+    @Override
+    public long evaluate(CharSequence bank) {
+        return evaluate(bank, null);
+    }
+
+    /**
+     * Extracts the value from a preprocessed bank, answering both windows in constant time.
+     *
+     * @param table The preprocessed bank
+     * @return The same value as {@link #evaluate(String)} on the bank
+     */
+    @Override
+    public long evaluate(MaxDigitTable table) {
+        return evaluate(table.bank(), table);
+    }
+
+    /**
+     * Selects the two digits, finding each window maximum in the table, or by scanning the bank without one.
+     */
+    private long evaluate(CharSequence bank, MaxDigitTable table) {
         int len = bank.length();
-        int firstIdx = BankRule.findMaxIndex(bank, 0, len-2);
-        int secondIdx = BankRule.findMaxIndex(bank, firstIdx + 1, len - 1);
+        int firstIdx = findMaxIndex(bank, table, 0, len-2);
+        int secondIdx = findMaxIndex(bank, table, firstIdx + 1, len - 1);
+
+        return (bank.charAt(firstIdx) - '0') * 10L + (bank.charAt(secondIdx) - '0');
+    }
 
-        return Long.parseLong("" + bank.charAt(firstIdx) + bank.charAt(secondIdx));
+    private static int findMaxIndex(CharSequence bank, MaxDigitTable table, int start, int end) {
+        return table == null ? BankRule.findMaxIndex(bank, start, end) : table.findMaxIndex(start, end);
     }
 }
\ No newline at end of file
@@ -1,10 +1,17 @@
 package software.ulpgc.adventofcode2025.days.day03.service;
 
+import software.ulpgc.adventofcode2025.core.MappedInput;
 import software.ulpgc.adventofcode2025.days.day03.rule.BankRule;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class BankProcessor {
+    /**
+     * Approximate number of bytes of the mapped input handled by a single worker task.
+     */
+    private static final int CHUNK_SIZE = 1 << 20;
+
     private final BankRule rule;
 
     /**
@@ -30,9 +37,58 @@ public class BankProcessor {
      * @return The sum of all values extracted from the bank codes
      */
     public long solve(List<String> banks) {
-        return banks.stream()
+        return solve(banks.stream());
+    }
+
+    /**
+     * Processes a lazily read stream of bank code strings and sums the extracted values.
+     *
+     * Each bank is evaluated and discarded as soon as it is read, so memory usage
+     * stays constant regardless of the number of banks in the input.
+     *
+     * @param banks A stream of bank code strings to process
+     * @return The sum of all values extracted from the bank codes
+     */
+    public long solve(Stream<String> banks) {
+        return banks
                 .filter(bank -> !bank.isEmpty())
                 .mapToLong(rule::evaluate)
                 .sum();
     }
-}
\ No newline at end of file
+
+    /**
+     * Processes a memory-mapped file of bank codes and sums the extracted values.
+     *
+     * Every line is handed to the rule as a {@link software.ulpgc.adventofcode2025.core.LineSlice}
+     * over the mapped bytes, so the banks are never copied into Strings. With the bank rules
+     * of this package no object is created per bank.
+     *
+     * @param input The mapped bank codes, one per line
+     * @return The sum of all values extracted from the bank codes
+     */
+    public long solve(MappedInput input) {
+        long[] total = {0};
+        input.forEachLine(bank -> {
+            if (bank.isBlank()) return;
+            total[0] += rule.evaluate(bank);
+        });
+        return total[0];
+    }
+
+    /**
+     * Processes a memory-mapped file of bank codes in parallel on the common fork-join pool.
+     *
+     * Banks are independent of each other, so the file is cut at newline boundaries into
+     * chunks of about one megabyte that share the mapped memory. Every chunk is evaluated
+     * by {@link #solve(MappedInput)} on a worker thread, straight from the mapped bytes,
+     * and the per-chunk sums are added up. The result is identical to the sequential mode.
+     *
+     * @param input The mapped bank codes, one per line
+     * @return The sum of all values extracted from the bank codes
+     */
+    public long solveParallel(MappedInput input) {
+        return input.chunks(CHUNK_SIZE).parallelStream()
+                .mapToLong(this::solve)
+                .sum();
+    }
+}
@@ -0,0 +1,28 @@
+package software.ulpgc.adventofcode2025.days.day04;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates paper roll grids for Day 4.
+ *
+ * The size is the side of a square grid. Each cell holds a roll ('@') with the
+ * same probability as in the puzzle input, and is empty ('.') otherwise.
+ */
+public class Day04Generator implements InputGenerator {
+    private static final double ROLL_PROBABILITY = 0.65;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] row = new char[size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                row[x] = random.nextDouble() < ROLL_PROBABILITY ? '@' : '.';
+            }
+            lines.accept(new String(row));
+        }
+    }
+}
@@ -2,8 +2,8 @@ package software.ulpgc.adventofcode2025.days.day04;
 
 import software.ulpgc.adventofcode2025.utils.GridUtils;
 import software.ulpgc.adventofcode2025.core.InputProvider;
-import software.ulpgc.adventofcode2025.days.day04.rule.AdvancedRemovalRule;
 import software.ulpgc.adventofcode2025.days.day04.rule.BasicRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.rule.WorklistRemovalRule;
 import software.ulpgc.adventofcode2025.days.day04.service.GridProcessor;
 
 
@@ -13,7 +13,9 @@ public class Main {
      *
      * Reads the input file containing a 2D character grid, then processes it using
      * two different removal strategies: BasicRemovalRule (single-pass removal) and
-     * AdvancedRemovalRule (iterative removal until no more cells can be removed).
+     * WorklistRemovalRule (iterative removal until no more cells can be removed, with
+     * the same result as AdvancedRemovalRule but only revisiting the neighbours of
+     * removed cells).
      *
      * The grid is copied before each processing to ensure both rules work with
      * the same initial state.
@@ -23,6 +25,6 @@ public class Main {
     public static void main(String[] args) {
         var input = new InputProvider("src/main/resources/inputs").provide("input_day04.txt", new Day04Mapper());
         System.out.println("Total 1: " + new GridProcessor(new BasicRemovalRule()).solve(GridUtils.copy(input)));
-        System.out.println("Total 2: " + new GridProcessor(new AdvancedRemovalRule(new BasicRemovalRule())).solve(GridUtils.copy(input)));
+        System.out.println("Total 2: " + new GridProcessor(new WorklistRemovalRule()).solve(GridUtils.copy(input)));
     }
 }
\ No newline at end of file
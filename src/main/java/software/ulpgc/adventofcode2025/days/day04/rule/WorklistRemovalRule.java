@@ -0,0 +1,87 @@
+package software.ulpgc.adventofcode2025.days.day04.rule;
+
+/**
+ * Incremental implementation of the iterative removal, driven by a worklist of removable cells.
+ *
+ * {@link AdvancedRemovalRule} repeats full passes of {@link BasicRemovalRule}, and every
+ * pass rescans the whole grid and recounts the 8 neighbours of every cell, so the cost
+ * is O(passes × rows × cols). This rule counts the neighbours of every roll once, then
+ * only touches the cells around each removal:
+ * <ol>
+ *   <li>every '@' cell with fewer than 4 '@' neighbours is put on a queue;</li>
+ *   <li>a queued cell is removed ('X'), and each of its remaining '@' neighbours loses
+ *       one neighbour;</li>
+ *   <li>a neighbour whose count just dropped from 4 to 3 becomes removable and is queued.</li>
+ * </ol>
+ * A cell is queued at most once and removing it updates 8 counters, so the total work is
+ * one scan of the grid plus a constant amount per removed cell.
+ *
+ * Removing a roll can only lower the counts of the other rolls, so the set of rolls that
+ * end up removed does not depend on the order of the removals: the grid and the count
+ * are identical to those of {@code new AdvancedRemovalRule(new BasicRemovalRule())}.
+ */
+public class WorklistRemovalRule implements RemovalRule {
+    private static final char ROLL = '@';
+    private static final char REMOVED = 'X';
+
+    /**
+     * A roll with fewer neighbouring rolls than this is removed, as in {@link BasicRemovalRule}.
+     */
+    private static final int THRESHOLD = 4;
+
+    /**
+     * Removes every roll that becomes removable, until the grid is stable.
+     *
+     * Counts and flags are kept in flat arrays with a one-cell border around the grid,
+     * so the 8 neighbours of any cell are fixed offsets and need no boundary checks.
+     *
+     * @param grid A 2D character array representing the grid to process
+     * @return The total number of cells removed
+     */
+    @Override
+    public int apply(char[][] grid) {
+        int rows = grid.length;
+        int cols = rows > 0 ? grid[0].length : 0;
+        if (rows == 0 || cols == 0) return 0;
+
+        int width = cols + 2;
+        boolean[] rolls = new boolean[(rows + 2) * width];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                rolls[index(r, c, width)] = grid[r][c] == ROLL;
+            }
+        }
+
+        int[] neighbours = {-width - 1, -width, -width + 1, -1, 1, width - 1, width, width + 1};
+        int[] counts = new int[rolls.length];
+        int[] queue = new int[rows * cols];
+        int tail = 0;
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int cell = index(r, c, width);
+                if (!rolls[cell]) continue;
+                for (int offset : neighbours) {
+                    if (rolls[cell + offset]) counts[cell]++;
+                }
+                if (counts[cell] < THRESHOLD) queue[tail++] = cell;
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int cell = queue[head];
+            rolls[cell] = false;
+            grid[cell / width - 1][cell % width - 1] = REMOVED;
+            for (int offset : neighbours) {
+                int neighbour = cell + offset;
+                // Only the drop from THRESHOLD to THRESHOLD - 1 queues a cell, so none is queued twice
+                if (rolls[neighbour] && --counts[neighbour] == THRESHOLD - 1) queue[tail++] = neighbour;
+            }
+        }
+        return tail;
+    }
+
+    private static int index(int r, int c, int width) {
+        return (r + 1) * width + c + 1;
+    }
+}
@@ -0,0 +1,35 @@
+package software.ulpgc.adventofcode2025.days.day05;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates fresh ingredient ranges and available ingredient IDs for Day 5.
+ *
+ * The size is the number of available IDs. One fresh range is generated for every
+ * five IDs, roughly the proportion of the puzzle input. Ranges and IDs are 15-digit
+ * numbers and ranges may overlap, as in the real data. A blank line separates the
+ * two sections.
+ */
+public class Day05Generator implements InputGenerator {
+    private static final long MAX_ID = 1_000_000_000_000_000L;
+    private static final long MAX_RANGE_WIDTH = 1_000_000_000_000L;
+    private static final int IDS_PER_RANGE = 5;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int ranges = Math.max(1, size / IDS_PER_RANGE);
+
+        for (int i = 0; i < ranges; i++) {
+            long start = random.nextLong(1, MAX_ID);
+            lines.accept(start + "-" + (start + random.nextLong(MAX_RANGE_WIDTH)));
+        }
+        lines.accept("");
+        for (int i = 0; i < size; i++) {
+            lines.accept(String.valueOf(random.nextLong(1, MAX_ID)));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day05.domain;
 
+import software.ulpgc.adventofcode2025.core.NumberScanner;
+
 /**
  * Represents a range of ingredient IDs with inclusive start and end boundaries.
  *
@@ -31,15 +33,18 @@ public record IngredientRange(long start, long end) implements Comparable<Ingred
      *
      * Parses strings in the format "start-end" (e.g., "100-200") where both
      * start and end are long integers. The hyphen is used as the delimiter.
+     * Both values are read in place with a NumberScanner, without splitting the string.
      *
      * @param input A string representing the range in format "start-end"
      * @return An IngredientRange object with the parsed start and end values
      * @throws NumberFormatException if either part cannot be parsed as a long
-     * @throws ArrayIndexOutOfBoundsException if the string doesn't contain exactly one hyphen
+     * @throws IllegalArgumentException if the two values are not separated by a hyphen
      */
     public static IngredientRange parse(String input) {
-        String[] parts = input.split("-");
-        return new IngredientRange(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        NumberScanner scanner = new NumberScanner(input);
+        long start = scanner.nextLong();
+        long end = scanner.expect('-').nextLong();
+        return new IngredientRange(start, end);
     }
 
     /**
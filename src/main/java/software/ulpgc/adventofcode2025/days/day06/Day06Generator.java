@@ -0,0 +1,51 @@
+package software.ulpgc.adventofcode2025.days.day06;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates cephalopod math worksheets for Day 6.
+ *
+ * The size is the number of problems. Each problem is a column block of four
+ * numbers with up to four digits, followed by a '+' or '*' operator row. As in the
+ * puzzle input, the numbers of a block are either all left-aligned or all
+ * right-aligned, and blocks are separated by a single blank column.
+ */
+public class Day06Generator implements InputGenerator {
+    private static final int OPERANDS = 4;
+    private static final int MAX_DIGITS = 4;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder[] rows = new StringBuilder[OPERANDS + 1];
+        for (int i = 0; i < rows.length; i++) rows[i] = new StringBuilder();
+
+        for (int problem = 0; problem < size; problem++) {
+            int width = random.nextInt(1, MAX_DIGITS + 1);
+            boolean leftAligned = random.nextBoolean();
+            if (problem > 0) {
+                for (StringBuilder row : rows) row.append(' ');
+            }
+
+            for (int i = 0; i < OPERANDS; i++) {
+                // The first operand always uses the full width of the block
+                int digits = i == 0 ? width : random.nextInt(1, width + 1);
+                String number = String.valueOf(random.nextInt(pow10(digits - 1), pow10(digits)));
+                String padding = " ".repeat(width - digits);
+                rows[i].append(leftAligned ? number + padding : padding + number);
+            }
+            rows[OPERANDS].append(random.nextBoolean() ? '+' : '*').append(" ".repeat(width - 1));
+        }
+
+        for (StringBuilder row : rows) lines.accept(row.toString());
+    }
+
+    private static int pow10(int exponent) {
+        int value = 1;
+        for (int i = 0; i < exponent; i++) value *= 10;
+        return value;
+    }
+}
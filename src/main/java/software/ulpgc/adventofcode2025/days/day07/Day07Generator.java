@@ -0,0 +1,40 @@
+package software.ulpgc.adventofcode2025.days.day07;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates tachyon manifolds for Day 7.
+ *
+ * The size is both the number of rows and the width of the manifold. The beam
+ * source 'S' sits in the middle of the first row. As in the puzzle input, every
+ * other row may hold splitters ('^'), placed only where a beam can arrive: inside
+ * the cone below the source, on alternating columns.
+ */
+public class Day07Generator implements InputGenerator {
+    private static final double SPLITTER_PROBABILITY = 0.5;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int center = size / 2;
+        char[] row = new char[size];
+
+        for (int y = 0; y < size; y++) {
+            Arrays.fill(row, '.');
+            if (y == 0) {
+                row[center] = 'S';
+            } else if (y % 2 == 0) {
+                // Splitter row k can only be reached at columns center - k, center - k + 2, ..., center + k
+                int spread = y / 2 - 1;
+                for (int x = Math.max(0, center - spread); x <= Math.min(size - 1, center + spread); x++) {
+                    if ((x - center - spread) % 2 == 0 && random.nextDouble() < SPLITTER_PROBABILITY) row[x] = '^';
+                }
+            }
+            lines.accept(new String(row));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package software.ulpgc.adventofcode2025.days.day08;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates junction box positions for Day 8.
+ *
+ * The size is the number of junction boxes. Boxes are placed at distinct integer
+ * coordinates between 0 and 99,999 on each axis, written as "x,y,z" like the puzzle
+ * input.
+ */
+public class Day08Generator implements InputGenerator {
+    private static final int BOUND = 100_000;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Set<Long> used = new HashSet<>();
+
+        while (used.size() < size) {
+            int x = random.nextInt(BOUND);
+            int y = random.nextInt(BOUND);
+            int z = random.nextInt(BOUND);
+            // Two boxes never share a position, so every connection has a positive length
+            if (used.add(((long) x * BOUND + y) * BOUND + z)) {
+                lines.accept(x + "," + y + "," + z);
+            }
+        }
+    }
+}
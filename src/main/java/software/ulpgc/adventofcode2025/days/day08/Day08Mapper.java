@@ -1,6 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day08;
 
 import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.NumberScanner;
 import software.ulpgc.adventofcode2025.days.day08.domain.Connection;
 import software.ulpgc.adventofcode2025.days.day08.domain.Day08Data;
 import software.ulpgc.adventofcode2025.days.day08.domain.JunctionBox;
@@ -42,6 +43,8 @@ public class Day08Mapper implements InputMapper<Day08Data> {
      * Parses input lines into a list of JunctionBox objects.
      * Each line should contain three comma-separated values representing x, y, z coordinates.
      * Empty lines are skipped, and each box is assigned a sequential ID based on its line number.
+     * Coordinates are read in place with a single reusable NumberScanner, so no token
+     * arrays or substrings are created per line.
      *
      * Example input line: "1.5, 2.3, 4.7"
      * Result: JunctionBox with id=lineNumber and position=(1.5, 2.3, 4.7)
@@ -51,23 +54,20 @@ public class Day08Mapper implements InputMapper<Day08Data> {
      */
     private List<JunctionBox> parseBoxes(List<String> lines) {
         List<JunctionBox> boxes = new ArrayList<>();
+        NumberScanner scanner = new NumberScanner();
 
         for (int i = 0; i < lines.size(); i++) {
-            String line = lines.get(i).trim();
-            if (line.isEmpty()) continue;
+            String line = lines.get(i);
+            if (line.isBlank()) continue;
 
-            // Split comma-separated coordinates
-            String[] coords = line.split(",");
+            // Read the comma-separated coordinates in place
+            scanner.reset(line);
+            double x = scanner.nextDouble();
+            double y = scanner.expect(',').nextDouble();
+            double z = scanner.expect(',').nextDouble();
 
             // Create junction box with sequential ID and 3D position
-            boxes.add(new JunctionBox(
-                    i,
-                    new Point3D(
-                            Double.parseDouble(coords[0]),
-                            Double.parseDouble(coords[1]),
-                            Double.parseDouble(coords[2])
-                    )
-            ));
+            boxes.add(new JunctionBox(i, new Point3D(x, y, z)));
         }
         return boxes;
     }
@@ -0,0 +1,79 @@
+package software.ulpgc.adventofcode2025.days.day08;
+
+import software.ulpgc.adventofcode2025.core.SnapshotCodec;
+import software.ulpgc.adventofcode2025.days.day08.domain.Connection;
+import software.ulpgc.adventofcode2025.days.day08.domain.Day08Data;
+import software.ulpgc.adventofcode2025.days.day08.domain.JunctionBox;
+import software.ulpgc.adventofcode2025.days.day08.domain.Point3D;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot codec for Day 8 that stores junction boxes together with their sorted connections.
+ *
+ * Building and sorting every pairwise connection is the most expensive part of
+ * {@link Day08Mapper}, so the snapshot keeps the connections already sorted. Each
+ * connection is stored as the positions of its two boxes in the box list plus its
+ * distance, which takes 16 bytes per connection.
+ *
+ * Layout:
+ * - box count, then per box: id (int), x, y, z (doubles)
+ * - connection count, then per connection: box index a, box index b (ints), distance (double)
+ */
+public class Day08SnapshotCodec implements SnapshotCodec<Day08Data> {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(Day08Data data, DataOutputStream out) throws IOException {
+        List<JunctionBox> boxes = data.boxes();
+        Map<Integer, Integer> indexById = new HashMap<>();
+
+        out.writeInt(boxes.size());
+        for (int i = 0; i < boxes.size(); i++) {
+            JunctionBox box = boxes.get(i);
+            indexById.put(box.id(), i);
+            out.writeInt(box.id());
+            out.writeDouble(box.position().x());
+            out.writeDouble(box.position().y());
+            out.writeDouble(box.position().z());
+        }
+
+        out.writeInt(data.connections().size());
+        for (Connection connection : data.connections()) {
+            out.writeInt(indexById.get(connection.a().id()));
+            out.writeInt(indexById.get(connection.b().id()));
+            out.writeDouble(connection.distance());
+        }
+    }
+
+    @Override
+    public Day08Data read(ByteBuffer in) {
+        int boxCount = in.getInt();
+        List<JunctionBox> boxes = new ArrayList<>(boxCount);
+        for (int i = 0; i < boxCount; i++) {
+            int id = in.getInt();
+            boxes.add(new JunctionBox(id, new Point3D(in.getDouble(), in.getDouble(), in.getDouble())));
+        }
+
+        // Connections are stored in their sorted order, so no sorting is needed here
+        int connectionCount = in.getInt();
+        List<Connection> connections = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            JunctionBox a = boxes.get(in.getInt());
+            JunctionBox b = boxes.get(in.getInt());
+            connections.add(new Connection(a, b, in.getDouble()));
+        }
+
+        return new Day08Data(boxes, connections);
+    }
+}
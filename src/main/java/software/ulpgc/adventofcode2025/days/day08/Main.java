@@ -19,10 +19,13 @@ public class Main {
      * Both analyzers use Union-Find data structure to efficiently track component
      * connectivity as connections are added.
      *
+     * The parsed input is cached as a binary snapshot when the aoc.snapshot.dir
+     * system property points to a directory, so later runs skip parsing.
+     *
      * @param args Command line arguments (not used)
      */
     public static void main(String[] args){
-        var input = new InputProvider("src/main/resources/inputs").provide("input_day08.txt", new Day08Mapper());
+        var input = new InputProvider("src/main/resources/inputs").provide("input_day08.txt", new Day08Mapper(), new Day08SnapshotCodec());
         System.out.println("result1: " + new CircuitProcessor(new BasicCircuitAnalyzer()).solve(input));
         System.out.println("result2: " + new CircuitProcessor(new AdvanceCircuitAnalyzer()).solve(input));
     }
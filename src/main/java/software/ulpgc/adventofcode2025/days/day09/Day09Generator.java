@@ -0,0 +1,43 @@
+package software.ulpgc.adventofcode2025.days.day09;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates loops of red tiles for Day 9.
+ *
+ * The size is the number of tiles (polygon vertices); odd sizes are rounded down
+ * and the minimum is 4. The loop is a simple, axis-aligned "skyline" polygon: a
+ * flat bottom edge and a top edge made of columns of random heights. Consecutive
+ * tiles always share a row or a column, and the many concave corners between
+ * columns exercise the containment checks of the loop analyzer.
+ */
+public class Day09Generator implements InputGenerator {
+    private static final int MAX_COLUMN_WIDTH = 1_000;
+    private static final int MAX_HEIGHT = 100_000;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int columns = Math.max(1, (size - 2) / 2);
+
+        // Walk the top edge from left to right, then close the loop along the bottom
+        int x = 0;
+        int previousHeight = 0;
+        lines.accept(x + "," + 0);
+        for (int i = 0; i < columns; i++) {
+            int height;
+            do {
+                height = random.nextInt(1, MAX_HEIGHT + 1);
+            } while (height == previousHeight);
+
+            lines.accept(x + "," + height);
+            x += random.nextInt(1, MAX_COLUMN_WIDTH + 1);
+            lines.accept(x + "," + height);
+            previousHeight = height;
+        }
+        lines.accept(x + "," + 0);
+    }
+}
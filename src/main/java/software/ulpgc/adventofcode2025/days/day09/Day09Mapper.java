@@ -1,6 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day09;
 
 import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.NumberScanner;
 import software.ulpgc.adventofcode2025.days.day09.domain.Tile;
 
 import java.util.List;
@@ -17,14 +18,13 @@ public class Day09Mapper implements InputMapper<List<Tile>> {
      * Maps input lines containing comma-separated coordinates into a list of Tile objects.
      *
      * Each line should contain two comma-separated integer values representing x and y
-     * coordinates. Empty lines are filtered out, and all values are trimmed before parsing.
+     * coordinates. Empty lines are filtered out, and whitespace around values is ignored.
      *
      * Processing steps:
-     * 1. Trim whitespace from each line
-     * 2. Filter out empty lines
-     * 3. Split each line by comma to extract x and y coordinates
-     * 4. Parse coordinates as integers and create Tile objects
-     * 5. Collect all tiles into a list
+     * 1. Filter out blank lines
+     * 2. Read the x and y coordinates in place with a reusable NumberScanner
+     * 3. Create Tile objects from the parsed coordinates
+     * 4. Collect all tiles into a list
      *
      * Example:
      * Input lines: ["10,20", "30,40", "", "50,60"]
@@ -35,18 +35,17 @@ public class Day09Mapper implements InputMapper<List<Tile>> {
      */
     @Override
     public List<Tile> map(List<String> lines) {
+        NumberScanner scanner = new NumberScanner();
         return lines.stream()
-                .map(String::trim)
-                .filter(line -> !line.isEmpty())
+                .filter(line -> !line.isBlank())
                 .map(line -> {
-                    // Split the line into x and y coordinates
-                    String[] coords = line.split(",");
+                    // Read the x and y coordinates without splitting the line
+                    scanner.reset(line);
+                    int x = scanner.nextInt();
+                    int y = scanner.expect(',').nextInt();
 
                     // Create a new Tile with parsed coordinates
-                    return new Tile(
-                            Integer.parseInt(coords[0]),
-                            Integer.parseInt(coords[1])
-                    );
+                    return new Tile(x, y);
                 })
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,89 @@
+package software.ulpgc.adventofcode2025.days.day10;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Generates machine descriptions for Day 10.
+ *
+ * The size is the number of machines. Each machine has 4 to 10 lights and 3 to 13
+ * buttons, every light being wired to at least one button. The generated inputs are
+ * always solvable: the light pattern is the result of pressing a random subset of
+ * buttons once, and the joltage targets are the counters reached by pressing each
+ * button a random number of times (at most 10).
+ */
+public class Day10Generator implements InputGenerator {
+    private static final int MIN_LIGHTS = 4;
+    private static final int MAX_LIGHTS = 10;
+    private static final int MIN_BUTTONS = 3;
+    private static final int MAX_BUTTONS = 13;
+    private static final int MAX_PRESSES = 10;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            lines.accept(machine(random));
+        }
+    }
+
+    private String machine(SplittableRandom random) {
+        int lights = random.nextInt(MIN_LIGHTS, MAX_LIGHTS + 1);
+        List<List<Integer>> buttons = buttons(random, lights);
+
+        boolean[] pattern = new boolean[lights];
+        int[] joltages = new int[lights];
+        for (List<Integer> button : buttons) {
+            boolean toggled = random.nextBoolean();
+            int presses = random.nextInt(MAX_PRESSES + 1);
+            for (int light : button) {
+                if (toggled) pattern[light] = !pattern[light];
+                joltages[light] += presses;
+            }
+        }
+
+        StringBuilder line = new StringBuilder("[");
+        for (boolean on : pattern) line.append(on ? '#' : '.');
+        line.append(']');
+        for (List<Integer> button : buttons) {
+            StringJoiner wiring = new StringJoiner(",", " (", ")");
+            button.forEach(light -> wiring.add(String.valueOf(light)));
+            line.append(wiring);
+        }
+        StringJoiner targets = new StringJoiner(",", " {", "}");
+        for (int joltage : joltages) targets.add(String.valueOf(joltage));
+        return line.append(targets).toString();
+    }
+
+    /**
+     * Wires every button to a random, sorted set of lights, making sure no light is left unwired.
+     */
+    private List<List<Integer>> buttons(SplittableRandom random, int lights) {
+        int count = random.nextInt(MIN_BUTTONS, MAX_BUTTONS + 1);
+        boolean[][] wiring = new boolean[count][lights];
+        for (boolean[] button : wiring) {
+            int wired = random.nextInt(1, lights);
+            for (int i = 0; i < wired; i++) button[random.nextInt(lights)] = true;
+        }
+        for (int light = 0; light < lights; light++) {
+            boolean covered = false;
+            for (boolean[] button : wiring) covered |= button[light];
+            if (!covered) wiring[random.nextInt(count)][light] = true;
+        }
+
+        List<List<Integer>> buttons = new ArrayList<>();
+        for (boolean[] button : wiring) {
+            List<Integer> wired = new ArrayList<>();
+            for (int light = 0; light < lights; light++) {
+                if (button[light]) wired.add(light);
+            }
+            buttons.add(wired);
+        }
+        return buttons;
+    }
+}
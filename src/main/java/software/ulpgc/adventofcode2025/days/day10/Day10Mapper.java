@@ -1,10 +1,12 @@
 package software.ulpgc.adventofcode2025.days.day10;
 
-import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.NumberScanner;
+import software.ulpgc.adventofcode2025.core.StreamingInputMapper;
 import software.ulpgc.adventofcode2025.days.day10.parser.InputParser;
 import software.ulpgc.adventofcode2025.days.day10.domain.Machine;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Input mapper for Day 10 that parses machine configuration data.
@@ -12,7 +14,7 @@ import java.util.List;
  * which handles the specific format of machine specifications including lights,
  * buttons, and joltage values.
  */
-public class Day10Mapper implements InputMapper<List<Machine>> {
+public class Day10Mapper implements StreamingInputMapper<List<Machine>> {
 
     /**
      * Maps input lines into a list of Machine objects.
@@ -23,10 +25,10 @@ public class Day10Mapper implements InputMapper<List<Machine>> {
      * specification format.
      *
      * Processing steps:
-     * 1. Trim whitespace from each line
-     * 2. Filter out empty lines
-     * 3. Parse each line using InputParser to create a Machine object
-     * 4. Collect all machines into a list
+     * 1. Filter out blank lines
+     * 2. Parse each line using InputParser, sharing one NumberScanner
+     *    across all lines, to create a Machine object
+     * 3. Collect all machines into a list
      *
      * Example input line format: "[.##.](1,3)(0,2){3,5,4,7}"
      * Where:
@@ -34,15 +36,18 @@ public class Day10Mapper implements InputMapper<List<Machine>> {
      * - (1,3) and (0,2) represent button effects
      * - {3,5,4,7} represents target joltage values
      *
-     * @param lines the raw input lines from the file
+     * Lines are parsed as they are read, so the raw text of the file is never
+     * held in memory as a whole.
+     *
+     * @param lines the raw input lines, read on demand
      * @return a list of Machine objects, one per valid configuration line
      */
     @Override
-    public List<Machine> map(List<String> lines) {
-        return lines.stream()
-                .map(String::trim)
-                .filter(line -> !line.isEmpty())
-                .map(InputParser::parseLine)
+    public List<Machine> map(Stream<String> lines) {
+        NumberScanner scanner = new NumberScanner();
+        return lines
+                .filter(line -> !line.isBlank())
+                .map(line -> InputParser.parseLine(scanner, line))
                 .toList();
     }
 }
\ No newline at end of file
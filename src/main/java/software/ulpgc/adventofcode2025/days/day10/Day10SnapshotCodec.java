@@ -0,0 +1,73 @@
+package software.ulpgc.adventofcode2025.days.day10;
+
+import software.ulpgc.adventofcode2025.core.SnapshotCodec;
+import software.ulpgc.adventofcode2025.days.day10.domain.Machine;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Snapshot codec for Day 10 that stores the parsed machine specifications.
+ *
+ * Layout, repeated for each machine after the machine count:
+ * - light count, then one byte per light (1 = on)
+ * - button count, then per button: index count followed by the indices
+ * - joltage count, then the joltage values
+ */
+public class Day10SnapshotCodec implements SnapshotCodec<List<Machine>> {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(List<Machine> machines, DataOutputStream out) throws IOException {
+        out.writeInt(machines.size());
+        for (Machine machine : machines) {
+            out.writeInt(machine.targetLights().size());
+            for (boolean light : machine.targetLights()) out.writeByte(light ? 1 : 0);
+
+            out.writeInt(machine.buttons().size());
+            for (Set<Integer> button : machine.buttons()) writeInts(button, out);
+
+            writeInts(machine.targetJoltage(), out);
+        }
+    }
+
+    @Override
+    public List<Machine> read(ByteBuffer in) {
+        int machineCount = in.getInt();
+        List<Machine> machines = new ArrayList<>(machineCount);
+        for (int m = 0; m < machineCount; m++) {
+            int lightCount = in.getInt();
+            List<Boolean> lights = new ArrayList<>(lightCount);
+            for (int i = 0; i < lightCount; i++) lights.add(in.get() == 1);
+
+            int buttonCount = in.getInt();
+            List<Set<Integer>> buttons = new ArrayList<>(buttonCount);
+            for (int i = 0; i < buttonCount; i++) buttons.add(new HashSet<>(readInts(in)));
+
+            machines.add(new Machine(
+                    Collections.unmodifiableList(lights),
+                    Collections.unmodifiableList(buttons),
+                    Collections.unmodifiableList(readInts(in))
+            ));
+        }
+        return Collections.unmodifiableList(machines);
+    }
+
+    private void writeInts(Collection<Integer> values, DataOutputStream out) throws IOException {
+        out.writeInt(values.size());
+        for (int value : values) out.writeInt(value);
+    }
+
+    private List<Integer> readInts(ByteBuffer in) {
+        int count = in.getInt();
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) values.add(in.getInt());
+        return values;
+    }
+}
@@ -27,12 +27,15 @@ public class Main {
      *         to reduce all joltage values to zero across all machines. Uses dynamic
      *         programming with memoization to optimize the recursive computation.
      *
+     * The parsed input is cached as a binary snapshot when the aoc.snapshot.dir
+     * system property points to a directory, so later runs skip parsing.
+     *
      * @param args command line arguments (not used)
      */
     public static void main(String[] args) {
         // Load and parse the input file using the Day 10 mapper
         var input = new InputProvider("src/main/resources/inputs")
-                .provide("input_day10.txt", new Day10Mapper());
+                .provide("input_day10.txt", new Day10Mapper(), new Day10SnapshotCodec());
 
         // Part A: Solve light configuration puzzles
         System.out.println("Day 10 Part A: " + new MachineProcessor(new LightConfigurationSolver()).solve(input));
@@ -1,11 +1,9 @@
 package software.ulpgc.adventofcode2025.days.day10.parser;
 
+import software.ulpgc.adventofcode2025.core.NumberScanner;
 import software.ulpgc.adventofcode2025.days.day10.domain.Machine;
 
 import java.util.*;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Parser utility class for converting text input into Machine domain objects.
@@ -14,21 +12,16 @@ import java.util.stream.Collectors;
  * - Lights: [.##.] where '.' = off (false) and '#' = on (true)
  * - Buttons: (1,3) representing sets of indices affected by each button
  * - Joltage: {3,5,4,7} representing target joltage values
+ *
+ * Components are read in a single left-to-right pass with a NumberScanner,
+ * so no regular expression, substring or token array is created while parsing.
  */
 public class InputParser {
 
-    /**
-     * Regular expression pattern to identify three types of components:
-     * - [lights] enclosed in square brackets containing dots and hashes
-     * - (buttons) enclosed in parentheses containing comma-separated numbers
-     * - {joltage} enclosed in curly braces containing comma-separated numbers
-     */
-    private static final Pattern COMPONENT_PATTERN = Pattern.compile("\\[[.#]+\\]|\\([^)]+\\)|\\{[^}]+\\}");
-
     /**
      * Parses a single line of input text into a Machine object.
      * The line can contain any combination of lights, buttons, and joltage components
-     * in any order. All matching components are extracted and parsed according to their type.
+     * in any order. All components are extracted and parsed according to their type.
      *
      * Example input formats:
      * - "[.##.](1,3)(0,2){3,5,4,7}"
@@ -38,37 +31,67 @@ public class InputParser {
      * @return a Machine object containing the parsed lights, buttons, and joltage values
      */
     public static Machine parseLine(String line) {
-        // Extract all components present in the line
-        List<String> components = COMPONENT_PATTERN.matcher(line)
-                .results()
-                .map(MatchResult::group)
-                .toList();
+        return parseLine(new NumberScanner(), line);
+    }
+
+    /**
+     * Parses a single line of input text into a Machine object, reusing the given scanner.
+     *
+     * Callers parsing many lines can share one scanner across calls to avoid creating
+     * a new cursor per line.
+     *
+     * @param scanner the scanner to reuse; it is reset onto the line
+     * @param line the input line to parse
+     * @return a Machine object containing the parsed lights, buttons, and joltage values
+     */
+    public static Machine parseLine(NumberScanner scanner, CharSequence line) {
+        List<Boolean> lights = new ArrayList<>();
+        List<Set<Integer>> buttons = new ArrayList<>();
+        List<Integer> joltage = new ArrayList<>();
 
-        // 1. Parse Lights: [.##.] -> [false, true, true, false]
-        //    Dots represent lights that are off, hashes represent lights that are on
-        List<Boolean> lights = components.stream()
-                .filter(s -> s.startsWith("["))
-                .flatMap(s -> s.substring(1, s.length() - 1).chars().mapToObj(c -> c == '#'))
-                .toList();
+        scanner.reset(line);
+        while (scanner.skipWhitespace().hasRemaining()) {
+            switch (scanner.next()) {
+                // 1. Lights: [.##.] -> [false, true, true, false]
+                //    Dots represent lights that are off, hashes represent lights that are on
+                case '[' -> parseLights(scanner, lights);
 
-        // 2. Parse Buttons: (1,3) -> Set of {1, 3}
-        //    Each button specification becomes a set of indices it affects
-        List<Set<Integer>> buttons = components.stream()
-                .filter(s -> s.startsWith("("))
-                .map(InputParser::parseCsvToSet)
-                .toList();
+                // 2. Buttons: (1,3) -> Set of {1, 3}
+                //    Each button specification becomes a set of indices it affects
+                //    An empty pair "()" is not a button and is skipped
+                case '(' -> {
+                    if (scanner.hasRemaining() && scanner.peek() == ')') scanner.next();
+                    else buttons.add(parseButton(scanner));
+                }
 
-        // 3. Parse Joltage: {3,5,4,7} -> List of [3, 5, 4, 7]
-        //    Joltage values are extracted as integers and maintained in order
-        List<Integer> joltage = components.stream()
-                .filter(s -> s.startsWith("{"))
-                .flatMap(s -> Arrays.stream(s.substring(1, s.length() - 1).split(","))
-                        .map(String::trim)
-                        .filter(v -> !v.isEmpty())
-                        .map(Integer::parseInt))
-                .toList();
+                // 3. Joltage: {3,5,4,7} -> List of [3, 5, 4, 7]
+                //    Joltage values are extracted as integers and maintained in order
+                case '{' -> parseIntegers(scanner, '}', joltage);
 
-        return new Machine(lights, buttons, joltage);
+                // Anything outside a component is ignored
+                default -> { }
+            }
+        }
+
+        return new Machine(
+                Collections.unmodifiableList(lights),
+                Collections.unmodifiableList(buttons),
+                Collections.unmodifiableList(joltage)
+        );
+    }
+
+    /**
+     * Reads light states up to the closing bracket.
+     *
+     * @param scanner the scanner positioned just after '['
+     * @param lights the list receiving one entry per light
+     */
+    private static void parseLights(NumberScanner scanner, List<Boolean> lights) {
+        while (scanner.hasRemaining()) {
+            char c = scanner.next();
+            if (c == ']') return;
+            lights.add(c == '#');
+        }
     }
 
     /**
@@ -77,20 +100,30 @@ public class InputParser {
      *
      * Example: "(1,3,5)" -> {1, 3, 5}
      *
-     * @param s the string to parse (format: "(num1,num2,num3)")
+     * @param scanner the scanner positioned just after '('
      * @return a Set of integers parsed from the input
      */
-    private static Set<Integer> parseCsvToSet(String s) {
-        // Remove the enclosing parentheses
-        String content = s.substring(1, s.length() - 1);
-
+    private static Set<Integer> parseButton(NumberScanner scanner) {
         // Handle empty button specification
-        if (content.isBlank()) return Collections.emptySet();
+        if (scanner.skip(')')) return Collections.emptySet();
+
+        List<Integer> indices = new ArrayList<>();
+        parseIntegers(scanner, ')', indices);
+        return new HashSet<>(indices);
+    }
 
-        // Split by comma, trim whitespace, parse integers, and collect into a set
-        return Arrays.stream(content.split(","))
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .collect(Collectors.toSet());
+    /**
+     * Reads comma-separated integers up to the given closing character.
+     *
+     * @param scanner the scanner positioned just after the opening character
+     * @param closing the character that ends the component
+     * @param values the list receiving the parsed integers
+     */
+    private static void parseIntegers(NumberScanner scanner, char closing, List<Integer> values) {
+        while (!scanner.skip(closing)) {
+            // Tolerate empty entries such as "{1,,2}"
+            if (scanner.skip(',')) continue;
+            values.add(scanner.nextInt());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package software.ulpgc.adventofcode2025.days.day11;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * Generates reactor device graphs for Day 11.
+ *
+ * The size is the number of devices (at least 6). Devices form a deep directed
+ * acyclic graph: each one is connected to the next device in a chain and to up to
+ * two more devices a few steps ahead, so the longest path visits every device. The
+ * special devices sit along that chain in the order "svr", "you", "fft", "dac" and
+ * "out", so both solvers always find paths. "out" has no outgoing connections.
+ *
+ * Path counts grow exponentially with the size and overflow a long for large
+ * graphs, which does not affect the cost of counting them.
+ */
+public class Day11Generator implements InputGenerator {
+    private static final Set<String> RESERVED = Set.of("svr", "you", "fft", "dac", "out");
+    private static final int MAX_EXTRA_CONNECTIONS = 2;
+    private static final int REACH = 8;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int devices = Math.max(RESERVED.size() + 1, size);
+        String[] names = names(devices);
+
+        for (int i = 0; i < devices - 1; i++) {
+            StringJoiner outputs = new StringJoiner(" ", names[i] + ": ", "");
+            outputs.add(names[i + 1]);
+            int extra = random.nextInt(MAX_EXTRA_CONNECTIONS + 1);
+            for (int j = 0; j < extra && i + 2 < devices; j++) {
+                outputs.add(names[random.nextInt(i + 2, Math.min(devices, i + REACH))]);
+            }
+            lines.accept(outputs.toString());
+        }
+    }
+
+    /**
+     * Names the devices in chain order, placing the special devices at fixed fractions of the chain.
+     */
+    private String[] names(int devices) {
+        String[] names = new String[devices];
+        names[0] = "svr";
+        names[devices / 5] = "you";
+        names[2 * devices / 5] = "fft";
+        names[3 * devices / 5] = "dac";
+        names[devices - 1] = "out";
+
+        int next = 0;
+        for (int i = 0; i < devices; i++) {
+            while (names[i] == null) {
+                String name = name(next++);
+                if (!RESERVED.contains(name)) names[i] = name;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Encodes a number as a lowercase name of at least three letters ("aaa", "aab", ...).
+     */
+    private static String name(int number) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0 || name.length() < 3);
+        return name.reverse().toString();
+    }
+}
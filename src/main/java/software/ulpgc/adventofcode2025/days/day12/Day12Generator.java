@@ -0,0 +1,78 @@
+package software.ulpgc.adventofcode2025.days.day12;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Generates present shapes and tree regions for Day 12.
+ *
+ * The size is the number of regions. Like the puzzle input, the file starts with six
+ * shapes drawn in a 3x3 box (five to seven cells each), followed by one line per
+ * region such as "47x49: 60 48 64 49 52 78". Regions measure 35 to 50 units per side.
+ * Following the distribution of the real data, half of the regions request presents
+ * covering 60% to 70% of their area, and the other half request slightly more cells
+ * than the region holds, so they can never fit.
+ */
+public class Day12Generator implements InputGenerator {
+    private static final int SHAPES = 6;
+    private static final int SHAPE_SIDE = 3;
+    private static final int MIN_SIDE = 35;
+    private static final int MAX_SIDE = 50;
+
+    @Override
+    public void generate(int size, long seed, Consumer<String> lines) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] cells = new int[SHAPES];
+
+        for (int shape = 0; shape < SHAPES; shape++) {
+            boolean[] filled = shape(random);
+            lines.accept(shape + ":");
+            for (int y = 0; y < SHAPE_SIDE; y++) {
+                StringBuilder row = new StringBuilder();
+                for (int x = 0; x < SHAPE_SIDE; x++) {
+                    boolean cell = filled[y * SHAPE_SIDE + x];
+                    row.append(cell ? '#' : '.');
+                    if (cell) cells[shape]++;
+                }
+                lines.accept(row.toString());
+            }
+            lines.accept("");
+        }
+
+        for (int i = 0; i < size; i++) {
+            int width = random.nextInt(MIN_SIDE, MAX_SIDE + 1);
+            int height = random.nextInt(MIN_SIDE, MAX_SIDE + 1);
+            double fill = random.nextBoolean() ? 0.6 + random.nextDouble() * 0.1 : 1.0;
+
+            // Add random presents until the requested cells exceed the target fill
+            int[] counts = new int[SHAPES];
+            for (int area = 0; area <= width * height * fill; ) {
+                int shape = random.nextInt(SHAPES);
+                counts[shape]++;
+                area += cells[shape];
+            }
+
+            StringBuilder line = new StringBuilder().append(width).append('x').append(height).append(':');
+            for (int count : counts) line.append(' ').append(count);
+            lines.accept(line.toString());
+        }
+    }
+
+    /**
+     * Fills five to seven random cells of a 3x3 box.
+     */
+    private boolean[] shape(SplittableRandom random) {
+        boolean[] filled = new boolean[SHAPE_SIDE * SHAPE_SIDE];
+        int target = random.nextInt(5, 8);
+        for (int placed = 0; placed < target; ) {
+            int cell = random.nextInt(filled.length);
+            if (!filled[cell]) {
+                filled[cell] = true;
+                placed++;
+            }
+        }
+        return filled;
+    }
+}
@@ -1,6 +1,7 @@
 package software.ulpgc.adventofcode2025.days.day12;
 
 import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.NumberScanner;
 import software.ulpgc.adventofcode2025.days.day12.domain.Point;
 import software.ulpgc.adventofcode2025.days.day12.domain.PuzzleData;
 import software.ulpgc.adventofcode2025.days.day12.domain.RegionRequest;
@@ -123,35 +124,32 @@ public class Day12Mapper implements InputMapper<PuzzleData> {
      *
      * Processing:
      * 1. Filter lines to those containing 'x' (dimension specification)
-     * 2. Split on ':' to separate dimensions from counts
-     * 3. Parse dimensions (widthxheight)
-     * 4. Parse shape counts as whitespace-separated integers
+     * 2. Read the dimensions (widthxheight) in place with a reusable NumberScanner
+     * 3. Skip the ':' separating dimensions from counts
+     * 4. Read shape counts as whitespace-separated integers until the end of the line
      * 5. Create RegionRequest with dimensions and count list
      *
      * @param lines the lines containing region request specifications
      * @return a list of RegionRequest objects
      */
     private List<RegionRequest> parseRegions(List<String> lines) {
+        NumberScanner scanner = new NumberScanner();
         return lines.stream()
-                .map(String::trim)
                 .filter(l -> l.contains("x"))  // Only process dimension specification lines
                 .map(line -> {
-                    // Split into dimensions and counts: "5x3: 2 1 0" → ["5x3", "2 1 0"]
-                    String[] parts = line.split(": ");
+                    // Read dimensions in place: "5x3: 2 1 0" → 5, 3
+                    scanner.reset(line);
+                    int width = scanner.nextInt();
+                    int height = scanner.expect('x').nextInt();
+                    scanner.expect(':');
 
-                    // Parse dimensions: "5x3" → [5, 3]
-                    String[] dims = parts[0].split("x");
-
-                    // Parse shape counts: "2 1 0" → [2, 1, 0]
-                    List<Integer> counts = Arrays.stream(parts[1].split("\\s+"))
-                            .map(Integer::parseInt)
-                            .toList();
+                    // Read shape counts: "2 1 0" → [2, 1, 0]
+                    List<Integer> counts = new ArrayList<>();
+                    while (scanner.skipWhitespace().hasRemaining()) {
+                        counts.add(scanner.nextInt());
+                    }
 
-                    return new RegionRequest(
-                            Integer.parseInt(dims[0]),  // width
-                            Integer.parseInt(dims[1]),  // height
-                            counts                       // shape counts
-                    );
+                    return new RegionRequest(width, height, Collections.unmodifiableList(counts));
                 })
                 .toList();
     }
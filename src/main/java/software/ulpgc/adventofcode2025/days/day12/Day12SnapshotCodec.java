@@ -0,0 +1,72 @@
+package software.ulpgc.adventofcode2025.days.day12;
+
+import software.ulpgc.adventofcode2025.core.SnapshotCodec;
+import software.ulpgc.adventofcode2025.days.day12.domain.Point;
+import software.ulpgc.adventofcode2025.days.day12.domain.PuzzleData;
+import software.ulpgc.adventofcode2025.days.day12.domain.RegionRequest;
+import software.ulpgc.adventofcode2025.days.day12.domain.Shape;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Snapshot codec for Day 12 that stores the normalized shapes and region requests.
+ *
+ * Layout:
+ * - shape count, then per shape: point count followed by (x, y) pairs
+ * - region count, then per region: width, height, count of shape counts and the counts
+ */
+public class Day12SnapshotCodec implements SnapshotCodec<PuzzleData> {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public void write(PuzzleData data, DataOutputStream out) throws IOException {
+        out.writeInt(data.shapes().size());
+        for (Shape shape : data.shapes()) {
+            out.writeInt(shape.points().size());
+            for (Point point : shape.points()) {
+                out.writeInt(point.x());
+                out.writeInt(point.y());
+            }
+        }
+
+        out.writeInt(data.regions().size());
+        for (RegionRequest region : data.regions()) {
+            out.writeInt(region.w());
+            out.writeInt(region.h());
+            out.writeInt(region.counts().size());
+            for (int count : region.counts()) out.writeInt(count);
+        }
+    }
+
+    @Override
+    public PuzzleData read(ByteBuffer in) {
+        int shapeCount = in.getInt();
+        List<Shape> shapes = new ArrayList<>(shapeCount);
+        for (int s = 0; s < shapeCount; s++) {
+            int pointCount = in.getInt();
+            Set<Point> points = new HashSet<>();
+            for (int i = 0; i < pointCount; i++) points.add(new Point(in.getInt(), in.getInt()));
+            shapes.add(new Shape(points));
+        }
+
+        int regionCount = in.getInt();
+        List<RegionRequest> regions = new ArrayList<>(regionCount);
+        for (int r = 0; r < regionCount; r++) {
+            int w = in.getInt();
+            int h = in.getInt();
+            int countSize = in.getInt();
+            List<Integer> counts = new ArrayList<>(countSize);
+            for (int i = 0; i < countSize; i++) counts.add(in.getInt());
+            regions.add(new RegionRequest(w, h, Collections.unmodifiableList(counts)));
+        }
+
+        return new PuzzleData(Collections.unmodifiableList(shapes), Collections.unmodifiableList(regions));
+    }
+}
@@ -27,12 +27,15 @@ public class Main {
      * The algorithm considers all rotations and reflections of each shape, ensuring
      * that every possible orientation is tried during the fitting process.
      *
+     * The parsed input is cached as a binary snapshot when the aoc.snapshot.dir
+     * system property points to a directory, so later runs skip parsing.
+     *
      * @param args command line arguments (not used)
      */
     public static void main(String[] args) {
         // Load and parse the input file using the Day 12 mapper
         var input = new InputProvider("src/main/resources/inputs")
-                .provide("input_day12.txt", new Day12Mapper());
+                .provide("input_day12.txt", new Day12Mapper(), new Day12SnapshotCodec());
 
         // Solve the packing puzzle and display the count of successfully filled regions
         System.out.println("Result: " + new PackingProcessor(new BacktrackingFittingStrategy()).solve(input));
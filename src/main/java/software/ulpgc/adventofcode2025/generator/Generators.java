@@ -0,0 +1,50 @@
+package software.ulpgc.adventofcode2025.generator;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+import software.ulpgc.adventofcode2025.days.day01.Day01Generator;
+import software.ulpgc.adventofcode2025.days.day02.Day02Generator;
+import software.ulpgc.adventofcode2025.days.day03.Day03Generator;
+import software.ulpgc.adventofcode2025.days.day04.Day04Generator;
+import software.ulpgc.adventofcode2025.days.day05.Day05Generator;
+import software.ulpgc.adventofcode2025.days.day06.Day06Generator;
+import software.ulpgc.adventofcode2025.days.day07.Day07Generator;
+import software.ulpgc.adventofcode2025.days.day08.Day08Generator;
+import software.ulpgc.adventofcode2025.days.day09.Day09Generator;
+import software.ulpgc.adventofcode2025.days.day10.Day10Generator;
+import software.ulpgc.adventofcode2025.days.day11.Day11Generator;
+import software.ulpgc.adventofcode2025.days.day12.Day12Generator;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Central registry of every day's input generator.
+ */
+public class Generators {
+    private static final Map<Integer, InputGenerator> GENERATORS = Map.ofEntries(
+            Map.entry(1, new Day01Generator()),
+            Map.entry(2, new Day02Generator()),
+            Map.entry(3, new Day03Generator()),
+            Map.entry(4, new Day04Generator()),
+            Map.entry(5, new Day05Generator()),
+            Map.entry(6, new Day06Generator()),
+            Map.entry(7, new Day07Generator()),
+            Map.entry(8, new Day08Generator()),
+            Map.entry(9, new Day09Generator()),
+            Map.entry(10, new Day10Generator()),
+            Map.entry(11, new Day11Generator()),
+            Map.entry(12, new Day12Generator())
+    );
+
+    private Generators() {}
+
+    /**
+     * Looks up the generator of a day.
+     *
+     * @param day the day number (1-12)
+     * @return the day's generator, or empty if there is no such day
+     */
+    public static Optional<InputGenerator> day(int day) {
+        return Optional.ofNullable(GENERATORS.get(day));
+    }
+}
@@ -0,0 +1,68 @@
+package software.ulpgc.adventofcode2025.generator;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class Main {
+    /**
+     * Entry point that writes a synthetic input for one day.
+     *
+     * Lines are written as they are generated, so inputs much larger than the heap
+     * can be produced.
+     *
+     * Supported options:
+     * - --day=N: the day whose input format is generated (required)
+     * - --size=N: the size of the input, in the unit of that day's generator (required)
+     * - --seed=S: the random seed (defaults to 0)
+     * - --output=FILE: the file to write (defaults to standard output)
+     *
+     * @param args Command line options as described above
+     */
+    public static void main(String[] args) {
+        InputGenerator generator = null;
+        int size = -1;
+        long seed = 0;
+        Path output = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--day=")) {
+                int day = Integer.parseInt(arg.substring("--day=".length()));
+                generator = Generators.day(day).orElseThrow(() -> new IllegalArgumentException("Unknown day: " + day));
+            } else if (arg.startsWith("--size=")) {
+                size = Integer.parseInt(arg.substring("--size=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (generator == null || size < 0) {
+            throw new IllegalArgumentException("Usage: --day=N --size=N [--seed=S] [--output=FILE]");
+        }
+
+        try (Writer writer = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(output)) {
+            generator.generate(size, seed, line -> {
+                try {
+                    writer.write(line);
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Impossible to write the generated input", e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package software.ulpgc.adventofcode2025.generator;
+
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+import software.ulpgc.adventofcode2025.runner.DayRegistry;
+import software.ulpgc.adventofcode2025.runner.PuzzleDay;
+import software.ulpgc.adventofcode2025.runner.PuzzlePart;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ScaleTest {
+    /**
+     * Sizes tried for each day by default, in the unit of that day's generator.
+     */
+    private static final Map<Integer, int[]> DEFAULT_SIZES = Map.ofEntries(
+            Map.entry(1, new int[]{10_000, 100_000, 1_000_000, 10_000_000}),
+            Map.entry(2, new int[]{10, 100, 1_000}),
+            Map.entry(3, new int[]{1_000, 10_000, 100_000}),
+            Map.entry(4, new int[]{100, 300, 1_000}),
+            Map.entry(5, new int[]{1_000, 10_000, 100_000}),
+            Map.entry(6, new int[]{1_000, 10_000, 100_000}),
+            Map.entry(7, new int[]{100, 300, 1_000}),
+            Map.entry(8, new int[]{500, 1_000, 2_000}),
+            Map.entry(9, new int[]{100, 200, 400, 800}),
+            Map.entry(10, new int[]{10, 30, 100}),
+            Map.entry(11, new int[]{100, 1_000, 10_000, 100_000}),
+            Map.entry(12, new int[]{100, 300, 1_000})
+    );
+
+    /**
+     * Stack size of the worker thread; deep generated graphs recurse once per device.
+     */
+    private static final long WORKER_STACK_SIZE = 1L << 30;
+
+    /**
+     * Entry point that measures how every day's strategies scale with the input size.
+     *
+     * For each day, inputs of increasing size are generated, mapped and solved with
+     * every registered part. One line is printed per phase with its wall time and the
+     * growth exponent estimated from the previous size (time ~ size^k), which makes
+     * quadratic or cubic hot paths easy to spot. The smallest size is solved once
+     * beforehand, unreported, so the first measurements are not dominated by the JIT. A day stops growing as soon as one of
+     * its phases fails or exceeds the timeout.
+     *
+     * Supported options:
+     * - --days=1,3,8: the days to test (defaults to all twelve)
+     * - --sizes=100,1000: the sizes to try for every day (defaults to a ladder per day)
+     * - --seed=S: the random seed of the generators (defaults to 0)
+     * - --timeout=SECONDS: the time limit of a single phase (defaults to 60)
+     *
+     * @param args Command line options as described above
+     */
+    public static void main(String[] args) {
+        List<Integer> days = DayRegistry.all().stream().map(PuzzleDay::number).toList();
+        int[] sizes = null;
+        long seed = 0;
+        long timeout = 60;
+
+        for (String arg : args) {
+            if (arg.startsWith("--days=")) {
+                days = Arrays.stream(arg.substring("--days=".length()).split(",")).map(String::trim).map(Integer::parseInt).toList();
+            } else if (arg.startsWith("--sizes=")) {
+                sizes = Arrays.stream(arg.substring("--sizes=".length()).split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--timeout=")) {
+                timeout = Long.parseLong(arg.substring("--timeout=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        for (int day : days) {
+            PuzzleDay<?> puzzle = DayRegistry.day(day).orElseThrow(() -> new IllegalArgumentException("Unknown day: " + day));
+            InputGenerator generator = Generators.day(day).orElseThrow();
+            scale(puzzle, generator, sizes != null ? sizes : DEFAULT_SIZES.get(day), seed, timeout);
+        }
+    }
+
+    private static <T> void scale(PuzzleDay<T> day, InputGenerator generator, int[] sizes, long seed, long timeout) {
+        int phases = day.parts().size() + 1;
+        long[] previousNanos = new long[phases];
+        int previousSize = 0;
+
+        // Step -1 solves the smallest size once without reporting it, to warm up the JIT
+        for (int step = -1; step < sizes.length; step++) {
+            int size = sizes[Math.max(0, step)];
+            boolean warmUp = step < 0;
+
+            // A fresh worker per size, so a phase that timed out cannot slow down the next day
+            ExecutorService worker = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(null, task, "scale-test", WORKER_STACK_SIZE);
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<String> lines = generator.generate(size, seed);
+                long[] nanos = new long[phases];
+                @SuppressWarnings("unchecked")
+                T[] input = (T[]) new Object[1];
+
+                nanos[0] = measure(worker, () -> input[0] = day.mapper().map(lines), timeout);
+                if (!warmUp) report(day.number(), size, "map", nanos[0], previousSize, previousNanos[0]);
+
+                for (int i = 0; i < day.parts().size(); i++) {
+                    PuzzlePart<T> part = day.parts().get(i);
+                    nanos[i + 1] = measure(worker, () -> part.solve(input[0]), timeout);
+                    if (!warmUp) report(day.number(), size, part.name(), nanos[i + 1], previousSize, previousNanos[i + 1]);
+                }
+
+                if (!warmUp) {
+                    previousNanos = nanos;
+                    previousSize = size;
+                }
+            } catch (TimeoutException e) {
+                System.out.printf("Day %02d | size %,d | timed out after %d s, larger sizes skipped%n", day.number(), size, timeout);
+                return;
+            } catch (ExecutionException e) {
+                System.out.printf("Day %02d | size %,d | failed: %s, larger sizes skipped%n", day.number(), size, e.getCause());
+                return;
+            } finally {
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    private static long measure(ExecutorService worker, Callable<?> phase, long timeout) throws TimeoutException, ExecutionException {
+        Future<Long> elapsed = worker.submit(() -> {
+            long start = System.nanoTime();
+            phase.call();
+            return System.nanoTime() - start;
+        });
+        try {
+            return elapsed.get(timeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(e);
+        }
+    }
+
+    private static void report(int day, int size, String phase, long nanos, int previousSize, long previousNanos) {
+        String growth = previousSize == 0 || previousNanos == 0
+                ? ""
+                : String.format(" | ~size^%.1f", Math.log((double) nanos / previousNanos) / Math.log((double) size / previousSize));
+        System.out.printf("Day %02d | size %,d | %s | %d ms%s%n", day, size, phase, TimeUnit.NANOSECONDS.toMillis(nanos), growth);
+    }
+}
@@ -0,0 +1,114 @@
+package software.ulpgc.adventofcode2025.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the peak heap usage of time windows without resetting any JVM-wide counter.
+ *
+ * Between two samples the heap only grows until a collection shrinks it, so the peak of
+ * a window is the largest of: the heap in use when it opens, the heap in use when it
+ * closes, and the heap in use right before every collection that ran in between. The
+ * last ones come from {@link GcInfo#getMemoryUsageBeforeGc()}, each a consistent total
+ * taken at one instant:
+ * - garbage collection notifications update every open window as they arrive
+ * - notifications are delivered asynchronously, so when a window closes the last
+ *   collection of every collector is also read directly, in case its notification
+ *   has not arrived yet
+ *
+ * The heap is shared, so a window reports the peak of the whole JVM while it was open,
+ * including the work of any concurrent window.
+ */
+final class HeapPeakMonitor {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final Set<String> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final Set<Window> OPEN = ConcurrentHashMap.newKeySet();
+
+    static {
+        // One listener for the whole JVM, so recorders never leak listeners
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener((notification, handback) -> {
+                    if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) return;
+                    GcInfo gc = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()).getGcInfo();
+                    long before = heapUsed(gc.getMemoryUsageBeforeGc());
+                    for (Window window : OPEN) window.peak.accumulateAndGet(before, Math::max);
+                }, null, null);
+            }
+        }
+    }
+
+    /**
+     * A time window whose peak heap usage is being tracked.
+     */
+    static final class Window {
+        private final long startUptime;
+        private final AtomicLong peak;
+
+        private Window(long startUptime, long heapUsed) {
+            this.startUptime = startUptime;
+            this.peak = new AtomicLong(heapUsed);
+        }
+    }
+
+    private HeapPeakMonitor() {}
+
+    /**
+     * Opens a window, starting from the heap in use now.
+     *
+     * @return the window to pass to {@link #close(Window)}
+     */
+    static Window open() {
+        Window window = new Window(ManagementFactory.getRuntimeMXBean().getUptime(), MEMORY.getHeapMemoryUsage().getUsed());
+        OPEN.add(window);
+        return window;
+    }
+
+    /**
+     * Closes a window and returns the peak heap usage seen while it was open.
+     *
+     * @param window the window returned by {@link #open()}
+     * @return the peak heap usage in bytes
+     */
+    static long close(Window window) {
+        OPEN.remove(window);
+        long peak = Math.max(window.peak.get(), MEMORY.getHeapMemoryUsage().getUsed());
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            if (collector instanceof com.sun.management.GarbageCollectorMXBean bean) {
+                GcInfo last = bean.getLastGcInfo();
+                // GcInfo times are milliseconds since the JVM started, like the uptime
+                if (last != null && last.getStartTime() >= window.startUptime) {
+                    peak = Math.max(peak, heapUsed(last.getMemoryUsageBeforeGc()));
+                }
+            }
+        }
+        return peak;
+    }
+
+    private static long heapUsed(Map<String, MemoryUsage> pools) {
+        long used = 0;
+        for (Map.Entry<String, MemoryUsage> pool : pools.entrySet()) {
+            if (HEAP_POOLS.contains(pool.getKey())) used += pool.getValue().getUsed();
+        }
+        return used;
+    }
+}
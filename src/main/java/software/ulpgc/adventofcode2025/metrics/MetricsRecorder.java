@@ -0,0 +1,177 @@
+package software.ulpgc.adventofcode2025.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in recorder of wall time, allocation and heap usage for each phase of a day.
+ *
+ * A phase is any piece of work wrapped in {@link #record(int, String, Supplier)}:
+ * reading the input, mapping it, or solving one part. For every phase the recorder
+ * measures:
+ * - the wall-clock time
+ * - the bytes allocated by the current thread, through {@link com.sun.management.ThreadMXBean}
+ * - the peak heap usage while the phase runs, through {@link HeapPeakMonitor}
+ *
+ * Each measurement is kept for a JSON report and also emitted as a Flight Recorder
+ * event, so regressions can be tracked from production runs with either tool.
+ *
+ * Allocations are counted on the thread that runs the phase, so work handed to other
+ * threads (such as a parallel stream) is not included.
+ *
+ * The heap is shared by the whole JVM, so no counter is ever reset: resetting the peak
+ * usage of the memory pools would corrupt the peaks of any phase running at the same
+ * time. The peak is instead the largest total heap usage seen at the start and end of
+ * the phase and right before every garbage collection in between. Since the heap is
+ * shared, the peak of a phase includes the memory of the phases running alongside it.
+ *
+ * The recorder is thread-safe and can be shared by concurrent phases.
+ */
+public class MetricsRecorder {
+    /**
+     * Phase name used for reading the raw input file.
+     */
+    public static final String READ = "read";
+
+    /**
+     * Phase name used for mapping the raw lines into the domain model.
+     */
+    public static final String MAP = "map";
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final Queue<PhaseMetrics> phases = new ConcurrentLinkedQueue<>();
+    private final AtomicLong peakHeap = new AtomicLong();
+
+    /**
+     * Constructs a recorder bound to the platform management beans.
+     */
+    public MetricsRecorder() {
+        this.threads = allocationCounter();
+    }
+
+    /**
+     * Returns the thread bean if it can count allocated bytes, or null otherwise.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Runs a phase and records its measurements.
+     *
+     * If the action throws, the exception is propagated and nothing is recorded.
+     *
+     * @param <T> the type of value computed by the phase
+     * @param day the day the phase belongs to
+     * @param phase the phase name, e.g. {@link #READ}, {@link #MAP} or a part name
+     * @param action the work to measure
+     * @return the value computed by the action
+     */
+    public <T> T record(int day, String phase, Supplier<T> action) {
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        HeapPeakMonitor.Window heap = HeapPeakMonitor.open();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            HeapPeakMonitor.close(heap);
+            throw e;
+        }
+
+        long wallNanos = System.nanoTime() - start;
+        long allocated = threads == null ? -1 : allocatedBytes() - allocatedBefore;
+        long peak = HeapPeakMonitor.close(heap);
+        event.end();
+
+        peakHeap.accumulateAndGet(peak, Math::max);
+        phases.add(new PhaseMetrics(day, phase, wallNanos, allocated, peak));
+
+        if (event.shouldCommit()) {
+            event.day = day;
+            event.phase = phase;
+            event.allocatedBytes = allocated;
+            event.peakHeapBytes = peak;
+            event.commit();
+        }
+        return result;
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns every recorded phase, ordered by day and then by completion time.
+     *
+     * @return a snapshot of the recorded phases
+     */
+    public List<PhaseMetrics> phases() {
+        return phases.stream().sorted(Comparator.comparingInt(PhaseMetrics::day)).toList();
+    }
+
+    /**
+     * Returns the highest peak heap usage observed in any recorded phase.
+     *
+     * @return the peak heap usage in bytes
+     */
+    public long peakHeapBytes() {
+        return peakHeap.get();
+    }
+
+    /**
+     * Renders the recorded phases as a JSON document.
+     *
+     * @return the JSON report
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"peakHeapBytes\": ").append(peakHeapBytes()).append(",\n  \"phases\": [");
+        List<PhaseMetrics> recorded = phases();
+        for (int i = 0; i < recorded.size(); i++) {
+            PhaseMetrics metrics = recorded.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"day\": ").append(metrics.day())
+                    .append(", \"phase\": \"").append(escape(metrics.phase())).append('"')
+                    .append(", \"wallNanos\": ").append(metrics.wallNanos())
+                    .append(", \"allocatedBytes\": ").append(metrics.allocatedBytes())
+                    .append(", \"peakHeapBytes\": ").append(metrics.peakHeapBytes())
+                    .append('}');
+        }
+        return json.append(recorded.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Writes the JSON report to a file, replacing it if it exists.
+     *
+     * @param file the file to write
+     * @throws RuntimeException if the file cannot be written (wraps IOException with context)
+     */
+    public void writeJson(Path file) {
+        try {
+            Files.writeString(file, toJson());
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to write the metrics file: " + file, e);
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
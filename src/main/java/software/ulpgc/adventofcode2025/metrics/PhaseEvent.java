@@ -0,0 +1,34 @@
+package software.ulpgc.adventofcode2025.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every phase measured by a {@link MetricsRecorder}.
+ *
+ * The event duration is the wall time of the phase. Events are only stored while a
+ * recording is active, e.g. when the JVM is started with -XX:StartFlightRecording.
+ */
+@Name("software.ulpgc.adventofcode2025.Phase")
+@Label("Puzzle Phase")
+@Category("Advent of Code")
+@Description("Reading, mapping or solving one part of a puzzle day")
+class PhaseEvent extends Event {
+    @Label("Day")
+    int day;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Peak Heap")
+    @DataAmount
+    long peakHeapBytes;
+}
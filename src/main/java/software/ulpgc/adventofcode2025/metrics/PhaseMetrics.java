@@ -0,0 +1,12 @@
+package software.ulpgc.adventofcode2025.metrics;
+
+/**
+ * Measurements taken while one phase of a puzzle day was running.
+ *
+ * @param day the day number
+ * @param phase the phase name: "read", "map" or the name of a part
+ * @param wallNanos the wall-clock time spent in the phase
+ * @param allocatedBytes the bytes allocated by the thread running the phase, or -1 if unsupported
+ * @param peakHeapBytes the peak heap usage of the JVM while the phase was running
+ */
+public record PhaseMetrics(int day, String phase, long wallNanos, long allocatedBytes, long peakHeapBytes) {}
@@ -0,0 +1,73 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.ResultCache;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BatchMain {
+    /**
+     * Entry point that solves one day over many input files.
+     *
+     * Every file matched by the input option is read, mapped and solved with the parts
+     * registered for the day. One line is printed per file as soon as it is done,
+     * followed by the total number of files and the throughput in files per second.
+     *
+     * Supported options:
+     * - --day=N: the day whose solvers are applied (required)
+     * - --input=DIR|GLOB: a directory, or a glob such as "corpus/day08/*.txt" or
+     *   "corpus/**&#47;*.txt", where "**&#47;" also matches no directory (required)
+     * - --parallelism=N: number of files solved at the same time (defaults to the number of processors)
+     * - --readers=N: number of files read at the same time (defaults to 2)
+     * - --results=DIR: reuse answers cached in DIR for files solved before; repeated
+     *   contents within the batch reuse answers already computed even without this option
+     *
+     * @param args Command line options as described above
+     */
+    public static void main(String[] args) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int readers = 2;
+        PuzzleDay<?> day = null;
+        String input = null;
+        Path resultsDirectory = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--day=")) {
+                int number = Integer.parseInt(arg.substring("--day=".length()));
+                day = DayRegistry.day(number).orElseThrow(() -> new IllegalArgumentException("Unknown day: " + number));
+            } else if (arg.startsWith("--input=")) {
+                input = arg.substring("--input=".length());
+            } else if (arg.startsWith("--parallelism=")) {
+                parallelism = Integer.parseInt(arg.substring("--parallelism=".length()));
+            } else if (arg.startsWith("--readers=")) {
+                readers = Integer.parseInt(arg.substring("--readers=".length()));
+            } else if (arg.startsWith("--results=")) {
+                resultsDirectory = Path.of(arg.substring("--results=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (day == null || input == null) {
+            throw new IllegalArgumentException("Usage: --day=N --input=DIR|GLOB [--parallelism=N] [--readers=N] [--results=DIR]");
+        }
+
+        List<Path> files = BatchRunner.files(input);
+        BatchSummary summary;
+        ResultCache results = new ResultCache(ResultCache.DEFAULT_CAPACITY, resultsDirectory);
+        try (BatchRunner runner = new BatchRunner(parallelism, readers, results)) {
+            summary = runner.run(day, files, BatchMain::print);
+        }
+
+        System.out.printf("Solved %d files (%d failed) in %d ms: %.1f files/s%n",
+                summary.files(), summary.failures(), TimeUnit.NANOSECONDS.toMillis(summary.elapsedNanos()),
+                summary.filesPerSecond());
+    }
+
+    private static void print(BatchResult result) {
+        String outcome = result.succeeded()
+                ? String.join(", ", result.answers().stream().map(a -> a.part() + ": " + a.value()).toList())
+                : "Failed: " + result.error();
+        System.out.printf("%s (%d ms) %s%n", result.file(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), outcome);
+    }
+}
@@ -0,0 +1,24 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Outcome of solving one input file in a batch: the answer of each part, or the failure.
+ *
+ * @param file the input file
+ * @param answers the answers of the parts, in registry order (empty on failure)
+ * @param error the failure message, or null if the file was solved
+ * @param elapsedNanos the wall-clock time from the start of reading to the end of the last part
+ */
+public record BatchResult(Path file, List<DayResult.Answer> answers, String error, long elapsedNanos) {
+
+    /**
+     * Checks whether every part was solved for this file.
+     *
+     * @return true if the file completed without errors
+     */
+    public boolean succeeded() {
+        return error == null;
+    }
+}
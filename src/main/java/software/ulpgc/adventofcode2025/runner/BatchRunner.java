@@ -0,0 +1,261 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.ContentHash;
+import software.ulpgc.adventofcode2025.core.ResultCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Solves one day over a whole corpus of input files with bounded concurrency.
+ *
+ * Every file goes through two stages running on separate pools: an I/O pool reads
+ * the raw lines, and a CPU pool maps them and solves every part. While the CPU
+ * workers solve some files, the I/O workers are already reading the next ones, so
+ * disk latency overlaps with computation.
+ *
+ * The number of files in flight is bounded, so a corpus of thousands of files never
+ * holds more than a few inputs in memory at once. Results are handed to a consumer
+ * as soon as each file is done, in completion order.
+ *
+ * Every file is read from disk exactly once. With a {@link ResultCache}, its contents
+ * are hashed from the bytes already in memory, and files whose answers are all cached
+ * (including duplicates earlier in the same batch) are answered without being mapped
+ * or solved.
+ *
+ * The runner owns its thread pools and must be closed after use.
+ */
+public class BatchRunner implements AutoCloseable {
+    private final ExecutorService readers;
+    private final ExecutorService solvers;
+    private final int maxInFlight;
+    private final CachedParts results;
+
+    /**
+     * Constructs a batch runner with two reader threads.
+     *
+     * @param parallelism the number of files solved at the same time
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public BatchRunner(int parallelism) {
+        this(parallelism, 2);
+    }
+
+    /**
+     * Constructs a batch runner with the given number of solver and reader threads.
+     *
+     * @param parallelism the number of files solved at the same time
+     * @param readerThreads the number of files read at the same time
+     * @throws IllegalArgumentException if either value is not positive
+     */
+    public BatchRunner(int parallelism, int readerThreads) {
+        this(parallelism, readerThreads, null);
+    }
+
+    /**
+     * Constructs a batch runner that reuses cached answers.
+     *
+     * @param parallelism the number of files solved at the same time
+     * @param readerThreads the number of files read at the same time
+     * @param results the cache of part answers, or null to always solve
+     * @throws IllegalArgumentException if either pool size is not positive
+     */
+    public BatchRunner(int parallelism, int readerThreads, ResultCache results) {
+        if (parallelism < 1 || readerThreads < 1) {
+            throw new IllegalArgumentException("Parallelism and reader threads must be positive");
+        }
+        this.readers = Executors.newFixedThreadPool(readerThreads);
+        this.solvers = Executors.newFixedThreadPool(parallelism);
+        // Enough files to keep every worker busy, plus one read-ahead per solver
+        this.maxInFlight = 2 * parallelism + readerThreads;
+        this.results = new CachedParts(results);
+    }
+
+    /**
+     * Lists the input files named by a directory or a glob pattern.
+     *
+     * A directory yields every regular file below it. Anything else is treated as a
+     * glob such as "corpus/day08/*.txt" or "corpus/**&#47;input_*.txt", which is matched
+     * below the longest leading path without wildcards, or below the current directory
+     * when the glob starts with a wildcard. As in most shells, "**&#47;" also matches no
+     * directory at all, so "**&#47;*.txt" includes the files of the base directory itself.
+     *
+     * @param directoryOrGlob a directory path or a glob pattern
+     * @return the matching files, sorted by path
+     * @throws RuntimeException if the directory cannot be listed (wraps IOException with context)
+     */
+    public static List<Path> files(String directoryOrGlob) {
+        Path directory = Path.of(directoryOrGlob);
+        PathMatcher matcher = path -> true;
+
+        if (!Files.isDirectory(directory)) {
+            directory = globBase(directoryOrGlob);
+            matcher = globMatcher(directoryOrGlob);
+        }
+
+        PathMatcher filter = matcher;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).filter(filter::matches).sorted().toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to list the input files: " + directoryOrGlob, e);
+        }
+    }
+
+    /**
+     * Builds a matcher for a glob in which every "**&#47;" may also match no directory.
+     *
+     * A Java glob requires "**&#47;" to match at least one directory, so the glob is
+     * expanded into every variant with some of those segments removed.
+     */
+    private static PathMatcher globMatcher(String glob) {
+        List<PathMatcher> matchers = optionalDirectories(glob).stream()
+                .map(variant -> FileSystems.getDefault().getPathMatcher("glob:" + variant))
+                .toList();
+        return path -> matchers.stream().anyMatch(matcher -> matcher.matches(path));
+    }
+
+    private static Set<String> optionalDirectories(String glob) {
+        int wildcard = glob.indexOf("**/");
+        if (wildcard < 0) return Set.of(glob);
+
+        String head = glob.substring(0, wildcard);
+        boolean wholeSegment = wildcard == 0 || glob.charAt(wildcard - 1) == '/';
+        Set<String> variants = new LinkedHashSet<>();
+        for (String tail : optionalDirectories(glob.substring(wildcard + 3))) {
+            variants.add(head + "**/" + tail);
+            if (wholeSegment) variants.add(head + tail);
+        }
+        return variants;
+    }
+
+    /**
+     * Returns the directory made of the path segments before the first wildcard.
+     */
+    private static Path globBase(String glob) {
+        Path base = Path.of("");
+        for (String segment : glob.split("/")) {
+            if (segment.matches(".*[*?\\[{].*")) break;
+            base = base.resolve(segment.isEmpty() ? "/" : segment);
+        }
+        return base;
+    }
+
+    /**
+     * Solves every file with the parts of the given day, streaming each result to a consumer.
+     *
+     * The consumer is called once per file, as soon as the file is done, and never by
+     * two threads at the same time. A failure in one file is reported in its result
+     * and does not stop the batch.
+     *
+     * @param <T> the type of the mapped input
+     * @param day the day whose mapper and parts are applied to every file
+     * @param files the input files to solve
+     * @param results receives the result of each file
+     * @return the totals of the batch
+     */
+    public <T> BatchSummary run(PuzzleDay<T> day, List<Path> files, Consumer<BatchResult> results) {
+        long start = System.nanoTime();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>(files.size());
+
+        for (Path file : files) {
+            // Wait for a slot before reading another file, so memory use stays bounded
+            inFlight.acquireUninterruptibly();
+            pending.add(submit(day, file).thenAccept(result -> {
+                try {
+                    if (!result.succeeded()) failures.incrementAndGet();
+                    synchronized (results) {
+                        results.accept(result);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return new BatchSummary(files.size(), failures.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * Schedules a single file: hashing and reading run on the I/O pool, mapping and parts on the CPU pool.
+     */
+    private <T> CompletableFuture<BatchResult> submit(PuzzleDay<T> day, Path file) {
+        long[] started = {System.nanoTime()};
+        return CompletableFuture
+                .supplyAsync(() -> {
+                    started[0] = System.nanoTime();
+                    return stage(day, file);
+                }, readers)
+                .thenApplyAsync(staged -> staged.cached() != null ? staged.cached() : solve(day, staged), solvers)
+                .handle((answers, error) -> error == null
+                        ? new BatchResult(file, answers, null, System.nanoTime() - started[0])
+                        : new BatchResult(file, List.of(), describe(error), System.nanoTime() - started[0]));
+    }
+
+    /**
+     * A file ready to be solved: either its cached answers, or its raw lines.
+     */
+    private record Staged(String contentHash, List<String> lines, List<DayResult.Answer> cached) {}
+
+    /**
+     * Reads a file once, hashing its bytes only when the result cache is enabled.
+     */
+    private <T> Staged stage(PuzzleDay<T> day, Path file) {
+        try {
+            byte[] content = Files.readAllBytes(file);
+            String contentHash = results.enabled() ? ContentHash.of(content) : null;
+            List<DayResult.Answer> cached = results.lookup(day, contentHash).orElse(null);
+            return cached != null ? new Staged(contentHash, null, cached) : new Staged(contentHash, lines(content), null);
+        } catch (IOException e) {
+            throw new RuntimeException("Impossible to read the file: " + file, e);
+        }
+    }
+
+    /**
+     * Decodes the lines of a file, rejecting malformed UTF-8 like {@link Files#readAllLines(Path)}.
+     */
+    private static List<String> lines(byte[] content) throws IOException {
+        return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString().lines().toList();
+    }
+
+    private <T> List<DayResult.Answer> solve(PuzzleDay<T> day, Staged staged) {
+        T input = day.mapper().map(staged.lines());
+        return day.parts().stream()
+                .map(part -> new DayResult.Answer(part.name(),
+                        results.solve(day, part, staged.contentHash(), () -> part.solve(input))))
+                .toList();
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    /**
+     * Shuts down both worker pools, letting running tasks finish.
+     */
+    @Override
+    public void close() {
+        readers.shutdown();
+        solvers.shutdown();
+    }
+}
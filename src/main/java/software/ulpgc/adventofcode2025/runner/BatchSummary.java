@@ -0,0 +1,20 @@
+package software.ulpgc.adventofcode2025.runner;
+
+/**
+ * Totals of a batch run.
+ *
+ * @param files the number of files processed
+ * @param failures the number of files that could not be solved
+ * @param elapsedNanos the wall-clock time of the whole batch
+ */
+public record BatchSummary(int files, int failures, long elapsedNanos) {
+
+    /**
+     * Computes the batch throughput.
+     *
+     * @return the number of files processed per second
+     */
+    public double filesPerSecond() {
+        return elapsedNanos == 0 ? 0 : files * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,58 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.ResultCache;
+import software.ulpgc.adventofcode2025.core.ResultKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads and writes part answers in an optional {@link ResultCache} on behalf of the runners.
+ *
+ * Only parts that declare their strategy class are cached; the others are always solved.
+ */
+class CachedParts {
+    private final ResultCache cache;
+
+    /**
+     * @param cache the result cache to use, or null to disable caching
+     */
+    CachedParts(ResultCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Checks whether a cache is configured, i.e. whether inputs need to be hashed at all.
+     */
+    boolean enabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the answers of every part of a day if all of them are cached.
+     *
+     * @return the cached answers, or empty if caching is off or any part is missing
+     */
+    <T> Optional<List<DayResult.Answer>> lookup(PuzzleDay<T> day, String contentHash) {
+        if (cache == null || contentHash == null) return Optional.empty();
+        List<DayResult.Answer> answers = new ArrayList<>();
+        for (PuzzlePart<T> part : day.parts()) {
+            if (part.strategy() == null) return Optional.empty();
+            OptionalLong answer = cache.lookup(ResultKey.of(contentHash, day.number(), part.strategy()));
+            if (answer.isEmpty()) return Optional.empty();
+            answers.add(new DayResult.Answer(part.name(), answer.getAsLong()));
+        }
+        return Optional.of(answers);
+    }
+
+    /**
+     * Solves a part through the cache, or directly when the part cannot be cached.
+     */
+    <T> long solve(PuzzleDay<T> day, PuzzlePart<T> part, String contentHash, LongSupplier solver) {
+        if (cache == null || contentHash == null || part.strategy() == null) return solver.getAsLong();
+        return cache.solve(ResultKey.of(contentHash, day.number(), part.strategy()), solver);
+    }
+}
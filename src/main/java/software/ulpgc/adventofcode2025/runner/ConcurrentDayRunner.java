@@ -0,0 +1,160 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.core.ResultCache;
+import software.ulpgc.adventofcode2025.metrics.MetricsRecorder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Solves many days concurrently inside a single JVM.
+ *
+ * Every day is loaded and mapped as one task, and each of its parts is solved as a
+ * separate task once the input is ready, all on a fixed pool of worker threads. The
+ * pool size bounds how many tasks run at the same time, so the total wall-clock time
+ * approaches the time of the slowest day when enough workers are available.
+ *
+ * When a {@link MetricsRecorder} is given, reading, mapping and every part are
+ * measured as separate phases. Streaming mappers then receive lines that were read
+ * up front, so the read phase can be timed on its own.
+ *
+ * When a {@link ResultCache} is given, the input file is hashed first: if the answers
+ * of every part are already cached, the day is answered without mapping or solving,
+ * and otherwise each part is looked up or stored individually.
+ *
+ * The runner owns its thread pool and must be closed after use.
+ */
+public class ConcurrentDayRunner implements AutoCloseable {
+    private final InputProvider provider;
+    private final ExecutorService executor;
+    private final MetricsRecorder metrics;
+    private final CachedParts results;
+
+    /**
+     * Constructs a runner that reads inputs through the given provider.
+     *
+     * @param provider the provider used to load every day's input
+     * @param parallelism the maximum number of tasks running at the same time
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public ConcurrentDayRunner(InputProvider provider, int parallelism) {
+        this(provider, parallelism, null);
+    }
+
+    /**
+     * Constructs a runner that records the metrics of every phase it runs.
+     *
+     * @param provider the provider used to load every day's input
+     * @param parallelism the maximum number of tasks running at the same time
+     * @param metrics the recorder for read, map and solve phases, or null to disable it
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public ConcurrentDayRunner(InputProvider provider, int parallelism, MetricsRecorder metrics) {
+        this(provider, parallelism, metrics, null);
+    }
+
+    /**
+     * Constructs a runner that records metrics and reuses cached answers.
+     *
+     * @param provider the provider used to load every day's input
+     * @param parallelism the maximum number of tasks running at the same time
+     * @param metrics the recorder for read, map and solve phases, or null to disable it
+     * @param results the cache of part answers, or null to always solve
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public ConcurrentDayRunner(InputProvider provider, int parallelism, MetricsRecorder metrics, ResultCache results) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.provider = provider;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.metrics = metrics;
+        this.results = new CachedParts(results);
+    }
+
+    /**
+     * Solves all the given days and waits for them to finish.
+     *
+     * A failure in one day does not affect the others: it is reported in that day's
+     * result instead.
+     *
+     * @param days the days to solve
+     * @return one result per day, in the same order as the input list
+     */
+    public List<DayResult> run(List<PuzzleDay<?>> days) {
+        List<CompletableFuture<DayResult>> futures = days.stream()
+                .<CompletableFuture<DayResult>>map(this::submit)
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Schedules a single day: one task loads the input, then one task per part solves it.
+     *
+     * @param day the day to solve
+     * @param <T> the type of the mapped input
+     * @return a future completed with the day's result
+     */
+    public <T> CompletableFuture<DayResult> submit(PuzzleDay<T> day) {
+        // Timing starts when a worker picks the day up, not while it waits in the queue
+        long[] start = {System.nanoTime()};
+        CompletableFuture<String> contentHash = CompletableFuture.supplyAsync(() -> {
+            start[0] = System.nanoTime();
+            return results.enabled() ? provider.contentHash(day.inputFile()) : null;
+        }, executor);
+
+        // A day whose answers are all cached is never loaded
+        CompletableFuture<List<DayResult.Answer>> answers = contentHash.thenComposeAsync(hash -> results.lookup(day, hash)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> solveParts(day, hash)), executor);
+
+        return answers.handle((solved, error) -> error == null
+                ? new DayResult(day.number(), solved, null, System.nanoTime() - start[0])
+                : new DayResult(day.number(), List.of(), describe(error), System.nanoTime() - start[0]));
+    }
+
+    /**
+     * Loads the input on the current worker, then solves every part as an independent task.
+     */
+    private <T> CompletableFuture<List<DayResult.Answer>> solveParts(PuzzleDay<T> day, String contentHash) {
+        T input = load(day);
+
+        // Parts share the mapped input but run as independent tasks
+        List<CompletableFuture<DayResult.Answer>> answers = day.parts().stream()
+                .map(part -> CompletableFuture.supplyAsync(
+                        () -> new DayResult.Answer(part.name(), solve(day, part, contentHash, input)), executor))
+                .toList();
+
+        return CompletableFuture.allOf(answers.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> answers.stream().map(CompletableFuture::join).toList());
+    }
+
+    private <T> T load(PuzzleDay<T> day) {
+        if (metrics == null) return provider.provide(day.inputFile(), day.mapper());
+        List<String> lines = metrics.record(day.number(), MetricsRecorder.READ, () -> provider.read(day.inputFile()));
+        return metrics.record(day.number(), MetricsRecorder.MAP, () -> day.mapper().map(lines));
+    }
+
+    private <T> long solve(PuzzleDay<T> day, PuzzlePart<T> part, String contentHash, T data) {
+        return results.solve(day, part, contentHash, () -> metrics == null
+                ? part.solve(data)
+                : metrics.record(day.number(), part.name(), () -> part.solve(data)));
+    }
+
+    private String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    /**
+     * Shuts down the worker pool, letting running tasks finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,124 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.days.day01.service.PasswordProcessor;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+import software.ulpgc.adventofcode2025.days.day02.Day02Mapper;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.SimpleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.service.IdProcessor;
+import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
+import software.ulpgc.adventofcode2025.days.day03.service.BankProcessor;
+import software.ulpgc.adventofcode2025.days.day04.Day04Mapper;
+import software.ulpgc.adventofcode2025.days.day04.rule.BasicRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.rule.WorklistRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.service.GridProcessor;
+import software.ulpgc.adventofcode2025.days.day05.Day05Mapper;
+import software.ulpgc.adventofcode2025.days.day05.analyzer.StockFreshnessChecker;
+import software.ulpgc.adventofcode2025.days.day05.analyzer.TotalFreshCapacityEstimator;
+import software.ulpgc.adventofcode2025.days.day05.service.InventoryProcessor;
+import software.ulpgc.adventofcode2025.days.day06.analyzer.ReverseVerticalAnalyzer;
+import software.ulpgc.adventofcode2025.days.day06.analyzer.StandardColumnAnalyzer;
+import software.ulpgc.adventofcode2025.days.day06.service.MathWorksheetProcessor;
+import software.ulpgc.adventofcode2025.days.day07.analyzer.BeamSplitCounter;
+import software.ulpgc.adventofcode2025.days.day07.analyzer.QuantumTimelineEstimator;
+import software.ulpgc.adventofcode2025.days.day07.service.ManifoldProcessor;
+import software.ulpgc.adventofcode2025.days.day08.Day08Mapper;
+import software.ulpgc.adventofcode2025.days.day08.analyzer.AdvanceCircuitAnalyzer;
+import software.ulpgc.adventofcode2025.days.day08.analyzer.BasicCircuitAnalyzer;
+import software.ulpgc.adventofcode2025.days.day08.service.CircuitProcessor;
+import software.ulpgc.adventofcode2025.days.day09.Day09Mapper;
+import software.ulpgc.adventofcode2025.days.day09.analyzer.LoopRectangleAnalyzer;
+import software.ulpgc.adventofcode2025.days.day09.analyzer.MaxRectangleAnalyzer;
+import software.ulpgc.adventofcode2025.days.day10.Day10Mapper;
+import software.ulpgc.adventofcode2025.days.day10.service.MachineProcessor;
+import software.ulpgc.adventofcode2025.days.day10.solver.JoltageSolver;
+import software.ulpgc.adventofcode2025.days.day10.solver.LightConfigurationSolver;
+import software.ulpgc.adventofcode2025.days.day11.Day11Mapper;
+import software.ulpgc.adventofcode2025.days.day11.service.ReactorProcessor;
+import software.ulpgc.adventofcode2025.days.day11.solver.MandatoryNodeSolver;
+import software.ulpgc.adventofcode2025.days.day11.solver.SimplePathSolver;
+import software.ulpgc.adventofcode2025.days.day12.Day12Mapper;
+import software.ulpgc.adventofcode2025.days.day12.service.PackingProcessor;
+import software.ulpgc.adventofcode2025.days.day12.strategy.BacktrackingFittingStrategy;
+import software.ulpgc.adventofcode2025.utils.GridUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Central registry of every day's input file, mapper and part solvers.
+ *
+ * Each entry wires the same mappers, processors and strategies as the corresponding
+ * {@code days.dayNN.Main}, so every day can be solved from a single JVM. Part solvers
+ * create a fresh processor per call, which keeps stateful strategies (such as the
+ * memoizing JoltageSolver) isolated when parts run concurrently.
+ */
+public class DayRegistry {
+    private static final InputMapper<List<String>> LINES = lines -> lines;
+
+    private static final List<PuzzleDay<?>> DAYS = List.of(
+            PuzzleDay.of(1, "input_day01.txt", LINES,
+                    new PuzzlePart<>("Part one", BasicStrategy.class, input -> new PasswordProcessor(new BasicStrategy()).solve(input)),
+                    new PuzzlePart<>("Part two", ArithmeticStrategy.class, input -> new PasswordProcessor(new ArithmeticStrategy()).solve(input))),
+            PuzzleDay.of(2, "input_day02.txt", new Day02Mapper(),
+                    new PuzzlePart<>("Part one", SimpleRepeatEvaluator.class, input -> new IdProcessor(new SimpleRepeatEvaluator()).solve(input)),
+                    new PuzzlePart<>("Part two", MultipleRepeatEvaluator.class, input -> new IdProcessor(new MultipleRepeatEvaluator()).solve(input))),
+            PuzzleDay.of(3, "input_day03.txt", LINES,
+                    new PuzzlePart<>("Part one", SimpleBankRule.class, input -> new BankProcessor(new SimpleBankRule()).solve(input)),
+                    new PuzzlePart<>("Part two", AdvancedBankRule.class, input -> new BankProcessor(new AdvancedBankRule()).solve(input))),
+            // Removal rules modify the grid in place, so each part works on its own copy
+            PuzzleDay.of(4, "input_day04.txt", new Day04Mapper(),
+                    new PuzzlePart<>("Part one", BasicRemovalRule.class, input -> new GridProcessor(new BasicRemovalRule()).solve(GridUtils.copy(input))),
+                    new PuzzlePart<>("Part two", WorklistRemovalRule.class, input -> new GridProcessor(new WorklistRemovalRule()).solve(GridUtils.copy(input)))),
+            PuzzleDay.of(5, "input_day05.txt", new Day05Mapper(),
+                    new PuzzlePart<>("Part one", StockFreshnessChecker.class, input -> new InventoryProcessor(new StockFreshnessChecker()).analyze(input)),
+                    new PuzzlePart<>("Part two", TotalFreshCapacityEstimator.class, input -> new InventoryProcessor(new TotalFreshCapacityEstimator()).analyze(input))),
+            PuzzleDay.of(6, "input_day06.txt", LINES,
+                    new PuzzlePart<>("Part one", StandardColumnAnalyzer.class, input -> new MathWorksheetProcessor(new StandardColumnAnalyzer()).solve(input)),
+                    new PuzzlePart<>("Part two", ReverseVerticalAnalyzer.class, input -> new MathWorksheetProcessor(new ReverseVerticalAnalyzer()).solve(input))),
+            PuzzleDay.of(7, "input_day07.txt", LINES,
+                    new PuzzlePart<>("Part one", BeamSplitCounter.class, input -> new ManifoldProcessor(new BeamSplitCounter()).solve(input)),
+                    new PuzzlePart<>("Part two", QuantumTimelineEstimator.class, input -> new ManifoldProcessor(new QuantumTimelineEstimator()).solve(input))),
+            PuzzleDay.of(8, "input_day08.txt", new Day08Mapper(),
+                    new PuzzlePart<>("Part one", BasicCircuitAnalyzer.class, input -> new CircuitProcessor(new BasicCircuitAnalyzer()).solve(input)),
+                    new PuzzlePart<>("Part two", AdvanceCircuitAnalyzer.class, input -> new CircuitProcessor(new AdvanceCircuitAnalyzer()).solve(input))),
+            // Day 09 has its own GridProcessor, hence the qualified names
+            PuzzleDay.of(9, "input_day09.txt", new Day09Mapper(),
+                    new PuzzlePart<>("Part one", MaxRectangleAnalyzer.class, input -> new software.ulpgc.adventofcode2025.days.day09.service.GridProcessor(
+                            new MaxRectangleAnalyzer()).solve(input)),
+                    new PuzzlePart<>("Part two", LoopRectangleAnalyzer.class, input -> new software.ulpgc.adventofcode2025.days.day09.service.GridProcessor(
+                            new LoopRectangleAnalyzer()).solve(input))),
+            PuzzleDay.of(10, "input_day10.txt", new Day10Mapper(),
+                    new PuzzlePart<>("Part one", LightConfigurationSolver.class, input -> new MachineProcessor(new LightConfigurationSolver()).solve(input)),
+                    new PuzzlePart<>("Part two", JoltageSolver.class, input -> new MachineProcessor(new JoltageSolver()).solve(input))),
+            PuzzleDay.of(11, "input_day11.txt", new Day11Mapper(),
+                    new PuzzlePart<>("Part one", SimplePathSolver.class, input -> new ReactorProcessor(new SimplePathSolver()).solve(input)),
+                    new PuzzlePart<>("Part two", MandatoryNodeSolver.class, input -> new ReactorProcessor(new MandatoryNodeSolver()).solve(input))),
+            PuzzleDay.of(12, "input_day12.txt", new Day12Mapper(),
+                    new PuzzlePart<>("Part one", BacktrackingFittingStrategy.class, input -> new PackingProcessor(new BacktrackingFittingStrategy()).solve(input)))
+    );
+
+    private DayRegistry() {}
+
+    /**
+     * Returns every registered day, in day order.
+     *
+     * @return the immutable list of all days
+     */
+    public static List<PuzzleDay<?>> all() {
+        return DAYS;
+    }
+
+    /**
+     * Looks up a single day by its number.
+     *
+     * @param number the day number (1-12)
+     * @return the registered day, or empty if there is no such day
+     */
+    public static Optional<PuzzleDay<?>> day(int number) {
+        return DAYS.stream().filter(day -> day.number() == number).findFirst();
+    }
+}
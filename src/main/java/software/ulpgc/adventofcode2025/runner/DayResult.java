@@ -0,0 +1,31 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import java.util.List;
+
+/**
+ * Outcome of solving one day: the answer of each part, or the failure that stopped it.
+ *
+ * @param day the day number
+ * @param answers the answers of the parts, in registry order (empty on failure)
+ * @param error the failure message, or null if the day was solved
+ * @param elapsedNanos the wall-clock time from the start of input loading to the end of the last part
+ */
+public record DayResult(int day, List<Answer> answers, String error, long elapsedNanos) {
+
+    /**
+     * The answer of a single part.
+     *
+     * @param part the part name
+     * @param value the computed answer
+     */
+    public record Answer(String part, long value) {}
+
+    /**
+     * Checks whether every part of the day was solved.
+     *
+     * @return true if the day completed without errors
+     */
+    public boolean succeeded() {
+        return error == null;
+    }
+}
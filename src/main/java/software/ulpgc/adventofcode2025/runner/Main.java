@@ -0,0 +1,80 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.core.ResultCache;
+import software.ulpgc.adventofcode2025.metrics.MetricsRecorder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class Main {
+    /**
+     * Entry point that solves every day concurrently in a single JVM.
+     *
+     * Instead of starting one JVM per day, all days share one process, one JIT warm-up
+     * and one worker pool. Results are printed in day order once every day is done,
+     * followed by the time spent on each day and the total wall-clock time.
+     *
+     * Supported options:
+     * - --parallelism=N: number of worker threads (defaults to the number of processors)
+     * - --days=1,3,8: solve only the listed days (defaults to all twelve)
+     * - --metrics=FILE: record time, allocation and peak heap of every read, map and
+     *   solve phase, and write them to FILE as JSON (also emitted as JFR events)
+     * - --results=DIR: reuse answers cached in DIR for unchanged inputs and strategies
+     *   (defaults to the aoc.results.dir system property, or no cache)
+     *
+     * @param args Command line options as described above
+     */
+    public static void main(String[] args) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        List<PuzzleDay<?>> days = DayRegistry.all();
+        Path metricsFile = null;
+        ResultCache results = ResultCache.fromSystemProperty();
+
+        for (String arg : args) {
+            if (arg.startsWith("--parallelism=")) {
+                parallelism = Integer.parseInt(arg.substring("--parallelism=".length()));
+            } else if (arg.startsWith("--days=")) {
+                days = Arrays.stream(arg.substring("--days=".length()).split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .<PuzzleDay<?>>map(n -> DayRegistry.day(n)
+                                .orElseThrow(() -> new IllegalArgumentException("Unknown day: " + n)))
+                        .toList();
+            } else if (arg.startsWith("--metrics=")) {
+                metricsFile = Path.of(arg.substring("--metrics=".length()));
+            } else if (arg.startsWith("--results=")) {
+                results = new ResultCache(ResultCache.DEFAULT_CAPACITY, Path.of(arg.substring("--results=".length())));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        long start = System.nanoTime();
+        MetricsRecorder metrics = metricsFile == null ? null : new MetricsRecorder();
+        List<DayResult> solved;
+        InputProvider provider = new InputProvider("src/main/resources/inputs");
+        try (ConcurrentDayRunner runner = new ConcurrentDayRunner(provider, parallelism, metrics, results)) {
+            solved = runner.run(days);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (DayResult result : solved) {
+            System.out.printf("Day %02d (%d ms)%n", result.day(), TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()));
+            if (result.succeeded()) {
+                result.answers().forEach(answer -> System.out.println("  " + answer.part() + ": " + answer.value()));
+            } else {
+                System.out.println("  Failed: " + result.error());
+            }
+        }
+        System.out.printf("Solved %d days with parallelism %d in %d ms%n",
+                solved.size(), parallelism, TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        if (metrics != null) {
+            metrics.writeJson(metricsFile);
+            System.out.println("Metrics written to " + metricsFile);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import software.ulpgc.adventofcode2025.core.InputMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registry entry describing how to solve one day: its input file, its mapper and its parts.
+ *
+ * Bundling these together lets a single runner load and solve any day without
+ * knowing the concrete domain type each mapper produces.
+ *
+ * @param number the day number (1-12)
+ * @param inputFile the input file name, relative to the input directory
+ * @param mapper the mapper that parses the input file
+ * @param parts the parts solved on the mapped input, in order
+ * @param <T> the type of the mapped input
+ */
+public record PuzzleDay<T>(int number, String inputFile, InputMapper<T> mapper, List<PuzzlePart<T>> parts) {
+
+    /**
+     * Creates a day with the given parts.
+     *
+     * @param number the day number (1-12)
+     * @param inputFile the input file name, relative to the input directory
+     * @param mapper the mapper that parses the input file
+     * @param parts the parts solved on the mapped input, in order
+     * @param <T> the type of the mapped input
+     * @return the registry entry
+     */
+    @SafeVarargs
+    public static <T> PuzzleDay<T> of(int number, String inputFile, InputMapper<T> mapper, PuzzlePart<T>... parts) {
+        // Copied element by element: handing the generic array to another varargs method is unsafe
+        List<PuzzlePart<T>> list = new ArrayList<>(parts.length);
+        for (PuzzlePart<T> part : parts) list.add(part);
+        return new PuzzleDay<>(number, inputFile, mapper, List.copyOf(list));
+    }
+}
@@ -0,0 +1,42 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * One part of a day's puzzle: a named solver applied to the mapped input.
+ *
+ * The solver is expected to build its own processor and strategy on every call,
+ * so that parts never share mutable state (some solvers keep memo tables) and can
+ * safely run concurrently on the same input.
+ *
+ * Parts that name their strategy class can have their answers stored in a
+ * {@link software.ulpgc.adventofcode2025.core.ResultCache}; parts without one are
+ * always solved.
+ *
+ * @param name the label printed next to the result (e.g., "Part one")
+ * @param strategy the strategy class the solver uses, or null if unknown
+ * @param solver computes the part's answer from the mapped input
+ * @param <T> the type of the mapped input
+ */
+public record PuzzlePart<T>(String name, Class<?> strategy, ToLongFunction<T> solver) {
+
+    /**
+     * Creates a part that does not declare its strategy and is never cached.
+     *
+     * @param name the label printed next to the result
+     * @param solver computes the part's answer from the mapped input
+     */
+    public PuzzlePart(String name, ToLongFunction<T> solver) {
+        this(name, null, solver);
+    }
+
+    /**
+     * Solves this part for the given input.
+     *
+     * @param input the mapped puzzle input
+     * @return the answer of this part
+     */
+    public long solve(T input) {
+        return solver.applyAsLong(input);
+    }
+}
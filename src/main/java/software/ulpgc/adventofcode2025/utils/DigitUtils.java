@@ -0,0 +1,81 @@
+package software.ulpgc.adventofcode2025.utils;
+
+/**
+ * Utility class providing arithmetic helpers for reasoning about the decimal digits of a long.
+ *
+ * Puzzles about digit patterns are naturally written with strings, but converting every
+ * number to a String allocates in the innermost loop. The helpers in this class work on
+ * the numbers directly, using a table of powers of ten, and never allocate.
+ *
+ * Example usage:
+ * <pre>
+ * DigitUtils.digits(123123);           // 6
+ * DigitUtils.repunit(3, 2);            // 1001, so 123123 == 123 * 1001
+ * 123123 % DigitUtils.repunit(3, 2);   // 0: "123" repeated twice
+ * </pre>
+ */
+public final class DigitUtils {
+    /**
+     * Number of decimal digits of {@link Long#MAX_VALUE}.
+     */
+    public static final int MAX_DIGITS = 19;
+
+    private static final long[] POW10 = new long[MAX_DIGITS];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < MAX_DIGITS; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    private DigitUtils() {}
+
+    /**
+     * Returns 10 raised to the given exponent.
+     *
+     * @param exponent the exponent, between 0 and {@code MAX_DIGITS - 1}
+     * @return the power of ten
+     */
+    public static long pow10(int exponent) {
+        return POW10[exponent];
+    }
+
+    /**
+     * Counts the decimal digits of a non-negative number; 0 has one digit.
+     *
+     * @param number the number, must not be negative
+     * @return the number of digits, between 1 and {@value #MAX_DIGITS}
+     */
+    public static int digits(long number) {
+        int digits = 1;
+        while (digits < MAX_DIGITS && number >= POW10[digits]) digits++;
+        return digits;
+    }
+
+    /**
+     * Returns the largest long with the given number of digits.
+     *
+     * @param digits the number of digits, between 1 and {@value #MAX_DIGITS}
+     * @return 10^digits - 1, or {@link Long#MAX_VALUE} for {@value #MAX_DIGITS} digits
+     */
+    public static long largestWithDigits(int digits) {
+        return digits == MAX_DIGITS ? Long.MAX_VALUE : POW10[digits] - 1;
+    }
+
+    /**
+     * Returns the number whose digits are a 1 followed by {@code blockLength - 1} zeros,
+     * repeated {@code repetitions} times and without the trailing zeros: 1 + 10^k + 10^(2k) + ...
+     *
+     * Multiplying a block of {@code blockLength} digits by this number writes the block
+     * {@code repetitions} times in a row, so a number is made of a repeated block exactly
+     * when it is a multiple of the repunit and has {@code blockLength * repetitions} digits.
+     *
+     * @param blockLength the number of digits of the repeated block
+     * @param repetitions the number of times the block is repeated
+     * @return the repunit, defined when {@code blockLength * repetitions <= MAX_DIGITS}
+     */
+    public static long repunit(int blockLength, int repetitions) {
+        long repunit = 0;
+        for (int i = 0; i < repetitions; i++) repunit += POW10[i * blockLength];
+        return repunit;
+    }
+}
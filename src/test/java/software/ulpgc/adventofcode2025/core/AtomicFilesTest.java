@@ -0,0 +1,50 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicFilesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_write_the_header_before_the_body() throws IOException {
+        Path file = dir.resolve("nested").resolve("value.bin");
+
+        AtomicFiles.write(file, 0x41424344, 3, out -> out.writeLong(42));
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            assertEquals(0x41424344, in.readInt());
+            assertEquals(3, in.readInt());
+            assertEquals(42, in.readLong());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void failed_write_should_keep_the_previous_file() throws IOException {
+        Path file = dir.resolve("value.bin");
+        AtomicFiles.write(file, 1, 1, out -> out.writeLong(7));
+        byte[] previous = Files.readAllBytes(file);
+
+        assertThrows(IOException.class, () -> AtomicFiles.write(file, 1, 1, out -> {
+            out.writeLong(8);
+            throw new IOException("disk full");
+        }));
+
+        // Il file precedente resta intatto e non rimane nessun file temporaneo
+        assertArrayEquals(previous, Files.readAllBytes(file));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
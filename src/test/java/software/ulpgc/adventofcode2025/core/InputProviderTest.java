@@ -0,0 +1,41 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputProviderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void provider_should_stream_lines_to_streaming_mappers() throws IOException {
+        Files.writeString(dir.resolve("input.txt"), "1\n2\n3\n");
+
+        StreamingInputMapper<Long> sum = lines -> lines.mapToLong(Long::parseLong).sum();
+
+        assertEquals(6, new InputProvider(dir.toString()).provide("input.txt", sum));
+        // The list-based contract still works for streaming mappers
+        assertEquals(6, sum.map(List.of("1", "2", "3")));
+    }
+
+    @Test
+    void provider_should_map_files_without_reading_them() throws IOException {
+        Files.writeString(dir.resolve("input.txt"), "1\n2\n3\n");
+
+        long lines = new InputProvider(dir.toString()).provideMapped("input.txt", input -> {
+            long[] count = {0};
+            input.forEachLine(line -> count[0]++);
+            return count[0];
+        });
+
+        assertEquals(3, lines);
+    }
+}
@@ -0,0 +1,56 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedInputTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void lines_should_match_read_all_lines() throws IOException {
+        Path file = Files.writeString(dir.resolve("input.txt"), "R25\r\nL10\n\nR5\n");
+
+        List<String> mapped = new ArrayList<>();
+        MappedInput.open(file).forEachLine(line -> mapped.add(line.toString()));
+
+        assertEquals(Files.readAllLines(file), mapped);
+    }
+
+    @Test
+    void regions_should_end_on_line_boundaries() throws IOException {
+        Path file = Files.writeString(dir.resolve("input.txt"), "aaaa\nbbbb\ncccc");
+
+        // Regions of 7 bytes force the file to be split after each line
+        MappedInput input = MappedInput.open(file, 7);
+        List<String> lines = new ArrayList<>();
+        for (CharSequence line : input) lines.add(line.toString());
+
+        assertEquals(3, input.regions().size());
+        assertEquals(List.of("aaaa", "bbbb", "cccc"), lines);
+    }
+
+    @Test
+    void chunks_should_hold_whole_lines() throws IOException {
+        Path file = Files.writeString(dir.resolve("input.txt"), "aaaa\nbb\ncccccc\n\nd\n");
+        MappedInput input = MappedInput.open(file);
+
+        // Per ogni dimensione, i chunk riletti in ordine devono dare le stesse righe
+        for (int chunkSize = 1; chunkSize <= 20; chunkSize++) {
+            List<String> lines = new ArrayList<>();
+            for (MappedInput chunk : input.chunks(chunkSize)) chunk.forEachLine(line -> lines.add(line.toString()));
+            assertEquals(Files.readAllLines(file), lines, "chunk size " + chunkSize);
+        }
+        assertEquals(5, input.chunks(1).size());
+        assertEquals(1, input.chunks(100).size());
+    }
+}
@@ -0,0 +1,35 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberScannerTest {
+
+    @Test
+    void should_read_numbers_and_delimiters_in_place() {
+        NumberScanner scanner = new NumberScanner(" 162, -817 ,812");
+
+        assertEquals(162, scanner.nextInt());
+        assertEquals(-817, scanner.expect(',').nextLong());
+        assertEquals(812.0, scanner.expect(',').nextDouble());
+        assertFalse(scanner.hasRemaining());
+    }
+
+    @Test
+    void doubles_should_match_the_jdk_parser() {
+        NumberScanner scanner = new NumberScanner();
+        for (String token : new String[]{"0.1", "-3.25", "123456.789", "1e3", "98765432109876543210"}) {
+            assertEquals(Double.parseDouble(token), scanner.reset(token).nextDouble(), token);
+        }
+    }
+
+    @Test
+    void longs_should_cover_the_full_range() {
+        NumberScanner scanner = new NumberScanner();
+        assertEquals(Long.MAX_VALUE, scanner.reset(String.valueOf(Long.MAX_VALUE)).nextLong());
+        assertEquals(Long.MIN_VALUE, scanner.reset(String.valueOf(Long.MIN_VALUE)).nextLong());
+        assertThrows(NumberFormatException.class, () -> scanner.reset("9223372036854775808").nextLong());
+        assertThrows(NumberFormatException.class, () -> scanner.reset("x").nextLong());
+    }
+}
@@ -0,0 +1,49 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @StrategyVersion(2)
+    static class VersionedStrategy {}
+
+    @Test
+    void memory_tier_should_evict_the_least_recently_used_answer() {
+        ResultCache cache = new ResultCache(2, null);
+        ResultKey a = new ResultKey("a", 1, "Strategy", 1);
+        ResultKey b = new ResultKey("b", 1, "Strategy", 1);
+        ResultKey c = new ResultKey("c", 1, "Strategy", 1);
+
+        cache.store(a, 1);
+        cache.store(b, 2);
+        cache.lookup(a);
+        cache.store(c, 3);
+
+        // "b" è il meno usato di recente, quindi viene scartato
+        assertEquals(1, cache.lookup(a).getAsLong());
+        assertTrue(cache.lookup(b).isEmpty());
+        assertEquals(3, cache.lookup(c).getAsLong());
+    }
+
+    @Test
+    void disk_tier_should_survive_a_new_cache_and_respect_the_version() {
+        AtomicInteger solves = new AtomicInteger();
+        ResultKey key = ResultKey.of("hash", 9, VersionedStrategy.class);
+
+        assertEquals(42, new ResultCache(16, dir).solve(key, () -> solves.incrementAndGet() + 41));
+        assertEquals(42, new ResultCache(16, dir).solve(key, () -> solves.incrementAndGet() + 41));
+        assertEquals(1, solves.get());
+
+        assertEquals(2, key.version());
+        assertTrue(new ResultCache(16, dir).lookup(new ResultKey("hash", 9, key.strategy(), 3)).isEmpty());
+    }
+}
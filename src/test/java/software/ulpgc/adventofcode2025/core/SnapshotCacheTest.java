@@ -0,0 +1,78 @@
+package software.ulpgc.adventofcode2025.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final SnapshotCodec<Long> sumCodec = new SnapshotCodec<>() {
+        @Override
+        public int version() { return 1; }
+
+        @Override
+        public void write(Long value, DataOutputStream out) throws IOException { out.writeLong(value); }
+
+        @Override
+        public Long read(ByteBuffer in) { return in.getLong(); }
+    };
+
+    @Test
+    void second_load_should_skip_parsing() throws IOException {
+        Files.writeString(dir.resolve("input.txt"), "1\n2\n3\n");
+        AtomicInteger parses = new AtomicInteger();
+        InputMapper<Long> mapper = lines -> {
+            parses.incrementAndGet();
+            return lines.stream().mapToLong(Long::parseLong).sum();
+        };
+        InputProvider provider = new InputProvider(dir.toString(), new SnapshotCache(dir.resolve("snapshots")));
+
+        assertEquals(6, provider.provide("input.txt", mapper, sumCodec));
+        assertEquals(6, provider.provide("input.txt", mapper, sumCodec));
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void snapshot_key_should_not_depend_on_the_mapper_class() throws IOException {
+        Files.writeString(dir.resolve("input.txt"), "4\n5\n");
+        AtomicInteger parses = new AtomicInteger();
+        InputProvider provider = new InputProvider(dir.toString(), new SnapshotCache(dir.resolve("snapshots")));
+
+        // Due lambda diverse hanno classi nascoste con nomi diversi a ogni esecuzione
+        assertEquals(9, provider.provide("input.txt", lines -> {
+            parses.incrementAndGet();
+            return lines.stream().mapToLong(Long::parseLong).sum();
+        }, sumCodec));
+        assertEquals(9, provider.provide("input.txt", lines -> {
+            parses.incrementAndGet();
+            return lines.stream().mapToLong(Long::parseLong).sum();
+        }, sumCodec));
+
+        assertEquals(1, parses.get());
+        try (var files = Files.list(dir.resolve("snapshots"))) {
+            assertTrue(files.allMatch(file -> file.getFileName().toString().contains(sumCodec.getClass().getName())));
+        }
+    }
+
+    @Test
+    void changed_input_should_invalidate_the_snapshot() throws IOException {
+        Path input = Files.writeString(dir.resolve("input.txt"), "1\n2\n");
+        InputMapper<Long> mapper = lines -> lines.stream().mapToLong(Long::parseLong).sum();
+        InputProvider provider = new InputProvider(dir.toString(), new SnapshotCache(dir.resolve("snapshots")));
+
+        assertEquals(3, provider.provide("input.txt", mapper, sumCodec));
+        Files.writeString(input, "10\n20\n");
+        assertEquals(30, provider.provide("input.txt", mapper, sumCodec));
+    }
+}
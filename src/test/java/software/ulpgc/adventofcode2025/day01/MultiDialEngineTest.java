@@ -0,0 +1,69 @@
+package software.ulpgc.adventofcode2025.day01;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day01.Day01Generator;
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+import software.ulpgc.adventofcode2025.days.day01.service.MultiDialEngine;
+import software.ulpgc.adventofcode2025.days.day01.strategy.AdvancedStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiDialEngineTest {
+    @Test
+    void testStandardDialsMatchDialObjects() {
+        List<String> instructions = new Day01Generator().generate(2_000, 1L);
+        int[] starts = {0, 1, 50, 99, 50};
+        MultiDialEngine engine = MultiDialEngine.withStandardDials(starts);
+        engine.rotateAll(instructions);
+
+        for (int i = 0; i < starts.length; i++) {
+            // Ogni dial dell'engine deve coincidere con un Dial simulato da solo
+            Dial basic = new Dial(starts[i]);
+            Dial advanced = new Dial(starts[i]);
+            long landings = 0, crossings = 0;
+            for (String instruction : instructions) {
+                landings += basic.rotate(instruction, new BasicStrategy());
+                crossings += advanced.rotate(instruction, new AdvancedStrategy());
+            }
+            assertEquals(landings, engine.landings(i));
+            assertEquals(crossings, engine.crossings(i));
+            assertEquals(basic.position(), engine.position(i));
+        }
+    }
+
+    @Test
+    void testDialsOfDifferentSizes() {
+        List<String> instructions = List.of("R7", "L3", "L12", "R25", "L1", "R0");
+        int[] starts = {0, 3, 9, 0};
+        int[] sizes = {1, 5, 10, 7};
+        MultiDialEngine engine = new MultiDialEngine(starts, sizes);
+        engine.rotateAll(instructions);
+
+        for (int i = 0; i < starts.length; i++) {
+            // Simulazione click per click su un dial della dimensione data
+            int position = starts[i];
+            long landings = 0, crossings = 0;
+            for (String instruction : instructions) {
+                int direction = instruction.charAt(0) == 'R' ? 1 : -1;
+                for (int step = 0; step < Integer.parseInt(instruction.substring(1)); step++) {
+                    position = Math.floorMod(position + direction, sizes[i]);
+                    if (position == 0) crossings++;
+                }
+                if (position == 0) landings++;
+            }
+            assertEquals(position, engine.position(i), "dial " + i);
+            assertEquals(landings, engine.landings(i), "dial " + i);
+            assertEquals(crossings, engine.crossings(i), "dial " + i);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidDials() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiDialEngine(new int[]{5}, new int[]{5}));
+        assertThrows(IllegalArgumentException.class, () -> new MultiDialEngine(new int[]{0}, new int[]{0}));
+        assertThrows(IllegalArgumentException.class, () -> new MultiDialEngine(new int[]{0, 1}, new int[]{10}));
+    }
+}
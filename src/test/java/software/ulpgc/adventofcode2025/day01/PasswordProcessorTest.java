@@ -0,0 +1,67 @@
+package software.ulpgc.adventofcode2025.day01;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.core.MappedInput;
+import software.ulpgc.adventofcode2025.days.day01.Day01Generator;
+import software.ulpgc.adventofcode2025.days.day01.service.PasswordProcessor;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordProcessorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSolveParallelMatchesSequentialSolve() {
+        // Abbastanza istruzioni da essere divise in più chunk
+        List<String> instructions = new Day01Generator().generate(300_000, 1L);
+
+        for (PasswordProcessor processor : List.of(
+                new PasswordProcessor(new BasicStrategy()),
+                new PasswordProcessor(new ArithmeticStrategy()))) {
+            assertEquals(processor.solve(instructions), processor.solveParallel(instructions));
+        }
+    }
+
+    @Test
+    void testSolveParallelOnSmallLog() {
+        List<String> instructions = List.of("L68", "L30", "R48", "L5", "R60", "L55", "L1", "L99", "R14", "L82");
+        // Esempio del puzzle: sotto la dimensione di un chunk si risolve in sequenza
+        assertEquals(3, new PasswordProcessor(new BasicStrategy()).solveParallel(instructions));
+        assertEquals(6, new PasswordProcessor(new ArithmeticStrategy()).solveParallel(instructions));
+    }
+
+    @Test
+    void testSolveMappedMatchesSolve() throws IOException {
+        List<String> instructions = new Day01Generator().generate(10_000, 3L);
+        Path file = Files.write(dir.resolve("rotations.txt"), instructions);
+        PasswordProcessor processor = new PasswordProcessor(new ArithmeticStrategy());
+
+        assertEquals(processor.solve(instructions), processor.solve(MappedInput.open(file)));
+    }
+
+    @Test
+    void testSolveMappedDoesNotAllocatePerInstruction() throws IOException {
+        Path file = Files.write(dir.resolve("rotations.txt"), new Day01Generator().generate(200_000, 5L));
+        MappedInput input = MappedInput.open(file);
+        PasswordProcessor processor = new PasswordProcessor(new ArithmeticStrategy());
+
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)) return;
+        long thread = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        processor.solve(input);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Con una String per riga servirebbero diversi MB: qui resta solo un'allocazione costante
+        assertTrue(allocated < 200_000, "Allocated " + allocated + " bytes");
+    }
+}
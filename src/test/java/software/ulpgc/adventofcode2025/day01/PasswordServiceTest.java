@@ -0,0 +1,94 @@
+package software.ulpgc.adventofcode2025.day01;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.days.day01.Day01Generator;
+import software.ulpgc.adventofcode2025.days.day01.domain.Dial;
+import software.ulpgc.adventofcode2025.days.day01.domain.PasswordCheckpoint;
+import software.ulpgc.adventofcode2025.days.day01.service.PasswordProcessor;
+import software.ulpgc.adventofcode2025.days.day01.service.PasswordService;
+import software.ulpgc.adventofcode2025.days.day01.strategy.AdvancedStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordServiceTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRunningTotalsMatchProcessors() {
+        List<String> instructions = new Day01Generator().generate(5_000, 1L);
+        PasswordService service = new PasswordService();
+
+        // Metà istruzioni una alla volta, metà in un unico batch
+        instructions.subList(0, 2_500).forEach(service::accept);
+        service.acceptAll(instructions.subList(2_500, instructions.size()));
+
+        assertEquals(new PasswordProcessor(new BasicStrategy()).solve(instructions), service.zeros(0));
+        assertEquals(new PasswordProcessor(new ArithmeticStrategy()).solve(instructions), service.zeros(1));
+        assertEquals(5_000, service.instructions());
+    }
+
+    @Test
+    void testRestoreFromCheckpointFile() throws IOException {
+        List<String> instructions = new Day01Generator().generate(2_000, 2L);
+        PasswordService uninterrupted = new PasswordService();
+        uninterrupted.acceptAll(instructions);
+
+        PasswordService first = new PasswordService();
+        first.acceptAll(instructions.subList(0, 1_200));
+        Path file = dir.resolve("day01.checkpoint");
+        first.checkpoint().write(file);
+
+        // Un nuovo servizio riprende dal checkpoint senza rigiocare la storia
+        PasswordService restarted = new PasswordService();
+        restarted.restore(PasswordCheckpoint.read(file));
+        restarted.acceptAll(instructions.subList(1_200, instructions.size()));
+
+        assertEquals(uninterrupted.checkpoint(), restarted.checkpoint());
+    }
+
+    @Test
+    void testRestoreRejectsDifferentStrategies() {
+        PasswordCheckpoint checkpoint = new PasswordService().checkpoint();
+        PasswordService service = new PasswordService(new BasicStrategy(), new AdvancedStrategy());
+
+        assertThrows(IllegalArgumentException.class, () -> service.restore(checkpoint));
+    }
+
+    @Test
+    void testMalformedBatchIsNotApplied() {
+        PasswordService service = new PasswordService();
+        service.acceptAll(List.of("R25", "L10"));
+        PasswordCheckpoint before = service.checkpoint();
+
+        // L'istruzione errata a metà batch non deve lasciare applicate quelle precedenti
+        assertThrows(NumberFormatException.class, () -> service.acceptAll(List.of("R50", "L5", "Rx", "R10")));
+
+        assertEquals(before, service.checkpoint());
+        service.acceptAll(List.of("R50", "L5", "", "R10"));
+        assertEquals(5, service.instructions());
+    }
+
+    @Test
+    void testConcurrentBatchesAreNotLost() {
+        PasswordService service = new PasswordService();
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < 16; i++) batches.add(new Day01Generator().generate(1_000, i));
+
+        IntStream.range(0, batches.size()).parallel().forEach(i -> service.acceptAll(batches.get(i)));
+
+        // La posizione finale non dipende dall'ordine dei batch
+        int offset = batches.stream().flatMap(List::stream).mapToInt(Dial::offsetOf).sum();
+        assertEquals(16_000, service.instructions());
+        assertEquals((Dial.START + offset) % Dial.SIZE, service.checkpoint().position());
+    }
+}
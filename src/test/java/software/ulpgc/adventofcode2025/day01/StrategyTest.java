@@ -2,6 +2,7 @@ package software.ulpgc.adventofcode2025.day01;
 
 import org.junit.jupiter.api.Test;
 import software.ulpgc.adventofcode2025.days.day01.strategy.AdvancedStrategy;
+import software.ulpgc.adventofcode2025.days.day01.strategy.ArithmeticStrategy;
 import software.ulpgc.adventofcode2025.days.day01.strategy.BasicStrategy;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,4 +29,32 @@ public class StrategyTest {
         // Giro completo da 0 a 0: passa per lo zero una volta durante il movimento
         assertEquals(1, strategy.countZeros(0, 100, 'R'));
     }
+
+    @Test
+    void testArithmeticStrategy() {
+        ArithmeticStrategy strategy = new ArithmeticStrategy();
+        // Stessi casi della strategia avanzata
+        assertEquals(1, strategy.countZeros(90, 20, 'R'));
+        assertEquals(1, strategy.countZeros(10, 20, 'L'));
+        assertEquals(1, strategy.countZeros(0, 100, 'R'));
+        // Un miliardo di passi dallo 0: passa per lo zero ogni 100 passi
+        assertEquals(10_000_000, strategy.countZeros(0, 1_000_000_000, 'R'));
+        assertEquals(10_000_000, strategy.countZeros(0, 1_000_000_000, 'L'));
+    }
+
+    @Test
+    void testArithmeticStrategyMatchesAdvancedStrategy() {
+        AdvancedStrategy advanced = new AdvancedStrategy();
+        ArithmeticStrategy arithmetic = new ArithmeticStrategy();
+        // Confronta ogni posizione iniziale con passi fino a tre giri completi
+        for (char direction : new char[]{'L', 'R'}) {
+            for (int position = 0; position < 100; position++) {
+                for (int steps = 0; steps <= 300; steps++) {
+                    assertEquals(advanced.countZeros(position, steps, direction),
+                            arithmetic.countZeros(position, steps, direction),
+                            direction + "" + steps + " from " + position);
+                }
+            }
+        }
+    }
 }
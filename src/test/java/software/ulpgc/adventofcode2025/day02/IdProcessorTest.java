@@ -0,0 +1,65 @@
+package software.ulpgc.adventofcode2025.day02;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day02.Day02Generator;
+import software.ulpgc.adventofcode2025.days.day02.Day02Mapper;
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticSimpleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.service.IdProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdProcessorTest {
+
+    @Test
+    void testMergeOverlappingAndAdjacentRanges() {
+        List<IdRange> ranges = List.of(new IdRange(50, 60), new IdRange(15, 30), new IdRange(10, 20),
+                new IdRange(31, 40), new IdRange(5, 1));
+
+        // Le sovrapposizioni e gli intervalli contigui vengono fusi, quelli vuoti scartati
+        assertEquals(List.of(new IdRange(10, 40), new IdRange(50, 60)), IdRange.merge(ranges));
+    }
+
+    @Test
+    void testSplitAtDigitBoundariesIntoBalancedRanges() {
+        assertEquals(List.of(new IdRange(95, 99), new IdRange(100, 549), new IdRange(550, 999), new IdRange(1000, 1015)),
+                new IdRange(95, 1015).split(500));
+        // 10 ID in 3 parti: larghezze 4, 3, 3
+        assertEquals(List.of(new IdRange(10, 13), new IdRange(14, 16), new IdRange(17, 19)),
+                new IdRange(10, 19).split(4));
+        // Tutto l'intervallo dei long senza overflow
+        List<IdRange> pieces = new IdRange(1, Long.MAX_VALUE).split(Long.MAX_VALUE);
+        assertEquals(19, pieces.size());
+        assertEquals(Long.MAX_VALUE, pieces.getLast().end());
+    }
+
+    @Test
+    void testSolveParallelMatchesSolveWithoutOverlaps() {
+        List<String> ranges = List.of("11-22", "95-115", "998-1012", "1188511880-1188511890", "222220-222224",
+                "1698522-1698528", "446443-446449", "38593856-38593862", "565653-565659", "824824821-824824827",
+                "2121212118-2121212124");
+        IdProcessor processor = new IdProcessor(new ArithmeticSimpleRepeatRule());
+
+        assertEquals(processor.solve(ranges), processor.solveParallel(ranges));
+        assertEquals(1227775554, processor.solveParallel(ranges));
+        // Un intervallo enorme viene diviso tra i worker senza overflow
+        assertDoesNotThrow(() -> new IdProcessor(new MultipleRepeatEvaluator()).solveParallel(List.of("1-9223372036854775807")));
+    }
+
+    @Test
+    void testSolveParallelCountsOverlappingIdsOnce() {
+        List<String> ranges = new Day02Mapper().map(new Day02Generator().generate(50, 4L));
+        List<String> overlapping = new ArrayList<>(ranges);
+        overlapping.addAll(ranges.subList(0, 10));
+        IdProcessor processor = new IdProcessor(new ArithmeticSimpleRepeatRule());
+
+        // I doppioni non cambiano il risultato della modalità parallela
+        assertEquals(processor.solveParallel(ranges), processor.solveParallel(overlapping));
+        assertEquals(new IdProcessor(new MultipleRepeatEvaluator()).solveParallel(ranges),
+                new IdProcessor(new MultipleRepeatEvaluator()).solveParallel(overlapping));
+    }
+}
@@ -0,0 +1,74 @@
+package software.ulpgc.adventofcode2025.day02;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.RangeEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.SimpleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.rule.IdRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeEvaluatorTest {
+
+    @Test
+    void testSimpleRepeatEvaluator() {
+        RangeEvaluator evaluator = new SimpleRepeatEvaluator();
+
+        // 11 + 22 tra 11 e 22
+        assertEquals(33, evaluator.sumValidIds(new IdRange(11, 22)));
+        // 99 e 1010 attraversando il passaggio da 2 a 4 cifre
+        assertEquals(1109, evaluator.sumValidIds(new IdRange(95, 1015)));
+        // Nessun ID valido con un numero dispari di cifre
+        assertEquals(0, evaluator.sumValidIds(new IdRange(100, 999)));
+    }
+
+    @Test
+    void testMultipleRepeatEvaluator() {
+        RangeEvaluator evaluator = new MultipleRepeatEvaluator();
+
+        // 111 è "1" ripetuto tre volte, 999 è l'unico altro ID valido fino a 1000
+        assertEquals(111 + 222 + 333 + 444 + 555 + 666 + 777 + 888 + 999, evaluator.sumValidIds(new IdRange(100, 999)));
+        // 111111 vale sia come "1"x6, "11"x3 e "111"x2 ma va contato una volta sola
+        assertEquals(111111, evaluator.sumValidIds(new IdRange(111110, 111112)));
+    }
+
+    @Test
+    void testEvaluatorsMatchRulesOnRandomRanges() {
+        SplittableRandom random = new SplittableRandom(2L);
+        for (int i = 0; i < 300; i++) {
+            long low = (long) Math.pow(10, random.nextInt(9));
+            long start = random.nextLong(1, low * 10);
+            IdRange range = new IdRange(start, start + random.nextInt(20_000));
+
+            assertMatches(new SimpleRepeatRule(), new SimpleRepeatEvaluator(), range);
+            assertMatches(new MultipleRepeatRule(), new MultipleRepeatEvaluator(), range);
+        }
+    }
+
+    @Test
+    void testEvaluatorsMatchRulesOnAllLengthsUpToSevenDigits() {
+        IdRange range = new IdRange(0, 2_000_000);
+        assertMatches(new SimpleRepeatRule(), new SimpleRepeatEvaluator(), range);
+        assertMatches(new MultipleRepeatRule(), new MultipleRepeatEvaluator(), range);
+    }
+
+    @Test
+    void testHugeRangesDoNotDependOnWidth() {
+        // Tutti gli ID di 12 cifre: pattern da 100000 a 999999 moltiplicati per 1000001
+        long patterns = 900_000L * (100_000L + 999_999L) / 2;
+        assertEquals(patterns * 1_000_001L, new SimpleRepeatEvaluator().sumValidIds(new IdRange(100_000_000_000L, 999_999_999_999L)));
+        // L'intero intervallo dei long viene sommato senza enumerare gli ID
+        assertDoesNotThrow(() -> new MultipleRepeatEvaluator().sumValidIds(new IdRange(1, Long.MAX_VALUE)));
+        // Intervallo vuoto
+        assertEquals(0, new SimpleRepeatEvaluator().sumValidIds(new IdRange(10, 0)));
+    }
+
+    private static void assertMatches(IdRule rule, RangeEvaluator evaluator, IdRange range) {
+        assertEquals(range.sumValidIds(rule), evaluator.sumValidIds(range), range.toString());
+    }
+}
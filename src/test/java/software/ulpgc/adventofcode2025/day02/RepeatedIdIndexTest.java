@@ -0,0 +1,44 @@
+package software.ulpgc.adventofcode2025.day02;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day02.domain.IdRange;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.MultipleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.RangeEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.RepeatedIdIndex;
+import software.ulpgc.adventofcode2025.days.day02.evaluator.SimpleRepeatEvaluator;
+import software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepeatedIdIndexTest {
+
+    @Test
+    void testIndexSize() {
+        // 9 + 90 + 900 ID a due metà uguali fino a 6 cifre
+        assertEquals(999, RepeatedIdIndex.build(new SimpleRepeatRule(), 6, new SimpleRepeatEvaluator()).size());
+    }
+
+    @Test
+    void testIndexMatchesClosedFormEvaluators() {
+        // Indice fino a 8 cifre: gli intervalli a cavallo del limite usano il fallback
+        RangeEvaluator simpleIndex = RepeatedIdIndex.build(new SimpleRepeatRule(), 8, new SimpleRepeatEvaluator());
+        RangeEvaluator multipleIndex = RepeatedIdIndex.build(new MultipleRepeatRule(), 8, new MultipleRepeatEvaluator());
+        RangeEvaluator simple = new SimpleRepeatEvaluator();
+        RangeEvaluator multiple = new MultipleRepeatEvaluator();
+
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int i = 0; i < 10_000; i++) {
+            long start = random.nextLong(0, 1_000_000_000L);
+            long end = start + random.nextLong(0, 200_000_000L);
+            IdRange range = new IdRange(start, end);
+            assertEquals(simple.sumValidIds(range), simpleIndex.sumValidIds(range), range.toString());
+            assertEquals(multiple.sumValidIds(range), multipleIndex.sumValidIds(range), range.toString());
+        }
+
+        assertEquals(multiple.sumValidIds(new IdRange(0, Long.MAX_VALUE)), multipleIndex.sumValidIds(new IdRange(0, Long.MAX_VALUE)));
+        assertEquals(0, simpleIndex.sumValidIds(new IdRange(10, 1)));
+    }
+}
@@ -1,10 +1,14 @@
 package software.ulpgc.adventofcode2025.day02;
 
 import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticMultipleRepeatRule;
+import software.ulpgc.adventofcode2025.days.day02.rule.ArithmeticSimpleRepeatRule;
 import software.ulpgc.adventofcode2025.days.day02.rule.IdRule;
 import software.ulpgc.adventofcode2025.days.day02.rule.MultipleRepeatRule;
 import software.ulpgc.adventofcode2025.days.day02.rule.SimpleRepeatRule;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RuleTest {
@@ -36,4 +40,71 @@ class RuleTest {
         // Caso non valido: non divisibile per i primi o non ripetuto correttamente
         assertEquals(0, rule.evaluate(1234567));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testArithmeticRulesMatchStringRules() {
+        IdRule simple = new SimpleRepeatRule(), arithmeticSimple = new ArithmeticSimpleRepeatRule();
+        IdRule multiple = new MultipleRepeatRule(), arithmeticMultiple = new ArithmeticMultipleRepeatRule();
+
+        // Tutti gli ID fino a un milione
+        for (long id = -100; id <= 1_000_000; id++) {
+            assertEquals(simple.evaluate(id), arithmeticSimple.evaluate(id), "id " + id);
+            assertEquals(multiple.evaluate(id), arithmeticMultiple.evaluate(id), "id " + id);
+        }
+
+        // ID grandi casuali e ID ripetuti costruiti apposta, fino a 19 cifre
+        SplittableRandom random = new SplittableRandom(3L);
+        long[] ids = {Long.MAX_VALUE, 1_111_111_111_111_111_111L, 123_123_123_123_123_123L, 999_999_999_999L, 100_010_001L};
+        for (long id : ids) {
+            assertEquals(simple.evaluate(id), arithmeticSimple.evaluate(id), "id " + id);
+            assertEquals(multiple.evaluate(id), arithmeticMultiple.evaluate(id), "id " + id);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long id = random.nextLong(1, Long.MAX_VALUE);
+            long block = random.nextLong(1, 100_000);
+            long repeated = Long.parseLong(String.valueOf(block).repeat(2 + random.nextInt(2)));
+            for (long candidate : new long[]{id, repeated}) {
+                assertEquals(simple.evaluate(candidate), arithmeticSimple.evaluate(candidate), "id " + candidate);
+                assertEquals(multiple.evaluate(candidate), arithmeticMultiple.evaluate(candidate), "id " + candidate);
+            }
+        }
+    }
+
+    @Test
+    void testBatchEvaluationMatchesPerIdEvaluation() {
+        IdRule[] rules = {new SimpleRepeatRule(), new MultipleRepeatRule(),
+                new ArithmeticSimpleRepeatRule(), new ArithmeticMultipleRepeatRule()};
+        SplittableRandom random = new SplittableRandom(7L);
+
+        for (IdRule rule : rules) {
+            // Intervalli casuali, anche a cavallo di un cambio di numero di cifre
+            for (int i = 0; i < 200; i++) {
+                long start = random.nextLong(-50, 2_000_000);
+                long end = start + random.nextLong(-10, 20_000);
+                long expected = 0;
+                for (long id = start; id <= end; id++) expected += rule.evaluate(id);
+                assertEquals(expected, rule.sumValidIds(start, end), rule.getClass().getSimpleName() + " " + start + "-" + end);
+            }
+
+            // Fine intervallo su Long.MAX_VALUE senza overflow del ciclo
+            long expected = 0;
+            for (long id = Long.MAX_VALUE - 1000; id < Long.MAX_VALUE; id++) expected += rule.evaluate(id);
+            expected += rule.evaluate(Long.MAX_VALUE);
+            assertEquals(expected, rule.sumValidIds(Long.MAX_VALUE - 1000, Long.MAX_VALUE));
+
+            // Ultimo multiplo a 18 cifre e passaggio a 19 cifre
+            long last = 999_999_999_999_999_999L;
+            expected = 0;
+            for (long id = last - 5000; id <= last + 5000; id++) expected += rule.evaluate(id);
+            assertEquals(expected, rule.sumValidIds(last - 5000, last + 5000));
+
+            // Sotto-array di ID sparsi
+            long[] ids = random.longs(1000, 1, 1_000_000_000L).toArray();
+            ids[10] = 123123;
+            ids[20] = 121212;
+            long expectedSlice = 0;
+            for (int j = 5; j < 900; j++) expectedSlice += rule.evaluate(ids[j]);
+            assertEquals(expectedSlice, rule.evaluate(ids, 5, 900));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package software.ulpgc.adventofcode2025.day03;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.core.MappedInput;
+import software.ulpgc.adventofcode2025.days.day03.Day03Generator;
+import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
+import software.ulpgc.adventofcode2025.days.day03.service.BankProcessor;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankProcessorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSolveMappedMatchesSolve() throws IOException {
+        // Abbastanza banchi (circa 3 MB) da essere divisi in più chunk
+        List<String> banks = new Day03Generator().generate(30_000, 1L);
+        Path file = Files.write(dir.resolve("banks.txt"), banks);
+        MappedInput input = MappedInput.open(file);
+
+        for (BankProcessor processor : List.of(
+                new BankProcessor(new SimpleBankRule()),
+                new BankProcessor(new AdvancedBankRule()),
+                new BankProcessor(new MonotonicStackBankRule()),
+                new BankProcessor(new MonotonicStackBankRule(18)))) {
+            long expected = processor.solve(banks);
+            assertEquals(expected, processor.solve(input));
+            assertEquals(expected, processor.solveParallel(input));
+        }
+    }
+
+    @Test
+    void testSolveMappedOnPuzzleExample() throws IOException {
+        Path file = Files.writeString(dir.resolve("example.txt"),
+                "987654321111111\n811111111111119\n234234234234278\n818181911112111\n");
+        MappedInput input = MappedInput.open(file);
+
+        // Esempio del puzzle
+        assertEquals(357, new BankProcessor(new SimpleBankRule()).solveParallel(input));
+        assertEquals(3121910778619L, new BankProcessor(new AdvancedBankRule()).solveParallel(input));
+    }
+
+    @Test
+    void testSolveMappedDoesNotAllocatePerBank() throws IOException {
+        Path file = Files.write(dir.resolve("banks.txt"), new Day03Generator().generate(50_000, 5L));
+        MappedInput input = MappedInput.open(file);
+
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)) return;
+        for (BankProcessor processor : List.of(
+                new BankProcessor(new SimpleBankRule()),
+                new BankProcessor(new AdvancedBankRule()),
+                new BankProcessor(new MonotonicStackBankRule()))) {
+            // Primo passaggio per far compilare il ciclo al JIT
+            processor.solve(input);
+            long thread = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(thread);
+            processor.solve(input);
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            // Con una String per banco servirebbero diversi MB
+            assertTrue(allocated < 200_000, "Allocated " + allocated + " bytes");
+        }
+    }
+}
@@ -4,8 +4,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
 import software.ulpgc.adventofcode2025.days.day03.rule.BankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule;
 import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
 
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BankRuleTest {
@@ -32,4 +35,45 @@ class BankRuleTest {
         long result = rule.evaluate("999999999999");
         assertEquals(999999999999L, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("MonotonicStackBankRule dovrebbe dare gli stessi risultati delle regole a finestre")
+    void testMonotonicStackBankRule() {
+        BankRule simple = new SimpleBankRule(), advanced = new AdvancedBankRule();
+        BankRule stackOfTwo = new MonotonicStackBankRule(2), stackOfTwelve = new MonotonicStackBankRule();
+        SplittableRandom random = new SplittableRandom(3L);
+
+        // Banchi casuali, anche con poche cifre distinte per avere molti pareggi
+        for (int i = 0; i < 10_000; i++) {
+            int digits = 1 + random.nextInt(9);
+            char[] bank = new char[12 + random.nextInt(100)];
+            for (int j = 0; j < bank.length; j++) bank[j] = (char) ('1' + random.nextInt(digits));
+            String input = new String(bank);
+            assertEquals(simple.evaluate(input), stackOfTwo.evaluate(input), input);
+            assertEquals(advanced.evaluate(input), stackOfTwelve.evaluate(input), input);
+        }
+
+        // Lunghezze configurabili: stesso risultato della scansione a finestre
+        for (int length = 1; length <= 18; length++) {
+            String input = random.ints(200, 1, 10).collect(StringBuilder::new, StringBuilder::append, StringBuilder::append).toString();
+            assertEquals(new AdvancedBankRule(length).evaluate(input), new MonotonicStackBankRule(length).evaluate(input), input);
+        }
+
+        // Esempio del puzzle
+        assertEquals(987654321111L, stackOfTwelve.evaluate("987654321111111"));
+        assertEquals(888911112111L, stackOfTwelve.evaluate("818181911112111"));
+    }
+
+    @Test
+    @DisplayName("MonotonicStackBankRule dovrebbe supportare lunghezze oltre i 18 cifre")
+    void testMonotonicStackBankRuleLongSelections() {
+        MonotonicStackBankRule rule = new MonotonicStackBankRule(20);
+        String bank = "1234567891234567891234";
+
+        // Si scartano le due cifre più piccole all'inizio
+        assertEquals("34567891234567891234", rule.select(bank));
+        assertThrows(ArithmeticException.class, () -> rule.evaluate(bank));
+        assertThrows(IllegalArgumentException.class, () -> rule.evaluate("123"));
+        assertEquals(999_999_999_999_999_999L, new MonotonicStackBankRule(18).evaluate("9".repeat(40)));
+    }
+}
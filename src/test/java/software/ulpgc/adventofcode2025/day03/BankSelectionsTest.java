@@ -0,0 +1,69 @@
+package software.ulpgc.adventofcode2025.day03;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day03.domain.BankSelections;
+import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSelectionsTest {
+
+    @Test
+    @DisplayName("BankSelections dovrebbe dare la selezione ottima per ogni lunghezza")
+    void testAllLengthsMatchSingleLengthRule() {
+        SplittableRandom random = new SplittableRandom(17L);
+        for (int i = 0; i < 500; i++) {
+            // Poche cifre distinte per avere molti pareggi
+            int digits = 1 + random.nextInt(9);
+            char[] chars = new char[1 + random.nextInt(120)];
+            for (int j = 0; j < chars.length; j++) chars[j] = (char) ('1' + random.nextInt(digits));
+            String bank = new String(chars);
+
+            BankSelections selections = BankSelections.of(bank);
+            for (int k = 1; k <= bank.length(); k++) {
+                assertEquals(new MonotonicStackBankRule(k).select(bank), selections.digits(k), bank + " k=" + k);
+            }
+            long[] values = selections.values();
+            for (int k = 1; k <= values.length; k++) {
+                assertEquals(new MonotonicStackBankRule(k).evaluate(bank), values[k - 1], bank + " k=" + k);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("BankSelections dovrebbe restituire valori long e BigInteger coerenti")
+    void testValues() {
+        String bank = "818181911112111";
+        BankSelections selections = BankSelections.of(bank);
+
+        // Stessi risultati delle parti uno e due
+        assertEquals(new SimpleBankRule().evaluate(bank), selections.value(2));
+        assertEquals(new AdvancedBankRule().evaluate(bank), selections.value(12));
+        assertEquals(888911112111L, selections.value(12));
+        assertEquals(9, selections.value(1));
+
+        long[] values = selections.values();
+        List<BigInteger> bigValues = selections.bigValues();
+        assertEquals(15, values.length);
+        assertEquals(15, bigValues.size());
+        for (int k = 1; k <= 15; k++) {
+            assertEquals(BigInteger.valueOf(values[k - 1]), bigValues.get(k - 1));
+        }
+        assertEquals(new BigInteger(bank), selections.bigValue(15));
+
+        // Oltre 18 cifre solo come BigInteger o stringa
+        String longBank = "9".repeat(25) + "1";
+        BankSelections longSelections = BankSelections.of(longBank);
+        assertEquals(new BigInteger("9".repeat(25)), longSelections.bigValue(25));
+        assertThrows(IllegalArgumentException.class, () -> longSelections.value(19));
+        assertThrows(IllegalArgumentException.class, () -> longSelections.digits(27));
+        assertEquals(18, longSelections.values().length);
+    }
+}
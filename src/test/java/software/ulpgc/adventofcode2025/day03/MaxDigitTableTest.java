@@ -0,0 +1,52 @@
+package software.ulpgc.adventofcode2025.day03;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.days.day03.domain.MaxDigitTable;
+import software.ulpgc.adventofcode2025.days.day03.rule.AdvancedBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.BankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.MonotonicStackBankRule;
+import software.ulpgc.adventofcode2025.days.day03.rule.SimpleBankRule;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxDigitTableTest {
+
+    @Test
+    @DisplayName("MaxDigitTable dovrebbe trovare lo stesso indice della scansione lineare")
+    void testFindMaxIndex() {
+        SplittableRandom random = new SplittableRandom(11L);
+        for (int n = 1; n <= 70; n++) {
+            // Poche cifre distinte per verificare il pareggio a sinistra
+            String bank = randomBank(random, n, 1 + random.nextInt(4));
+            MaxDigitTable table = MaxDigitTable.of(bank);
+            for (int start = 0; start < n; start++) {
+                for (int end = start - 1; end < n; end++) {
+                    assertEquals(BankRule.findMaxIndex(bank, start, end), table.findMaxIndex(start, end), bank + " [" + start + ", " + end + "]");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Le regole sulla tabella dovrebbero dare gli stessi risultati delle regole sulla stringa")
+    void testRulesOnTable() {
+        SplittableRandom random = new SplittableRandom(13L);
+        BankRule[] rules = {new SimpleBankRule(), new AdvancedBankRule(), new AdvancedBankRule(18), new MonotonicStackBankRule()};
+        for (int i = 0; i < 2_000; i++) {
+            String bank = randomBank(random, 18 + random.nextInt(300), 9);
+            MaxDigitTable table = MaxDigitTable.of(bank);
+            for (BankRule rule : rules) {
+                assertEquals(rule.evaluate(bank), rule.evaluate(table), bank);
+            }
+        }
+    }
+
+    private static String randomBank(SplittableRandom random, int length, int digits) {
+        char[] bank = new char[length];
+        for (int i = 0; i < length; i++) bank[i] = (char) ('1' + random.nextInt(digits));
+        return new String(bank);
+    }
+}
@@ -5,6 +5,12 @@ import software.ulpgc.adventofcode2025.days.day04.rule.AdvancedRemovalRule;
 import software.ulpgc.adventofcode2025.days.day04.rule.BasicRemovalRule;
 import software.ulpgc.adventofcode2025.days.day04.domain.Grid;
 import software.ulpgc.adventofcode2025.days.day04.rule.RemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.rule.WorklistRemovalRule;
+import software.ulpgc.adventofcode2025.days.day04.Day04Generator;
+import software.ulpgc.adventofcode2025.days.day04.Day04Mapper;
+import software.ulpgc.adventofcode2025.utils.GridUtils;
+
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,7 +61,7 @@ class RemovalRuleTest {
                 {'@', '@', '@', '@', '@'}
         };
 
-        RemovalRule rule = new AdvancedRemovalRule();
+        RemovalRule rule = new AdvancedRemovalRule(new BasicRemovalRule());
         int totalRemoved = rule.apply(cells);
 
         assertEquals(5, totalRemoved);
@@ -69,11 +75,46 @@ class RemovalRuleTest {
     @Test
     void should_handle_empty_grid() {
         char[][] emptyCells = new char[0][0];
-        RemovalRule rule = new AdvancedRemovalRule();
+        RemovalRule rule = new AdvancedRemovalRule(new BasicRemovalRule());
 
         assertDoesNotThrow(() -> {
             int removed = rule.apply(emptyCells);
             assertEquals(0, removed);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void worklist_removal_rule_should_match_advanced_rule() {
+        SplittableRandom random = new SplittableRandom(9L);
+        for (int i = 0; i < 50; i++) {
+            // Griglie casuali, anche rettangolari, con la densità dell'input del puzzle
+            int rows = 1 + random.nextInt(60);
+            int cols = 1 + random.nextInt(60);
+            char[][] cells = new char[rows][cols];
+            for (char[] row : cells) {
+                for (int c = 0; c < cols; c++) row[c] = random.nextDouble() < 0.65 ? '@' : '.';
+            }
+
+            char[][] expected = GridUtils.copy(cells);
+            char[][] actual = GridUtils.copy(cells);
+            assertEquals(new AdvancedRemovalRule(new BasicRemovalRule()).apply(expected), new WorklistRemovalRule().apply(actual));
+            assertArrayEquals(expected, actual);
+        }
+
+        // Griglia generata più grande
+        char[][] grid = new Day04Mapper().map(new Day04Generator().generate(200, 4L));
+        assertEquals(new AdvancedRemovalRule(new BasicRemovalRule()).apply(GridUtils.copy(grid)), new WorklistRemovalRule().apply(GridUtils.copy(grid)));
+    }
+
+    @Test
+    void worklist_removal_rule_should_cascade_removals() {
+        char[][] cells = {
+                {'@', '@', '@', '@', '@'}
+        };
+
+        // La riga sparisce tutta, come con AdvancedRemovalRule
+        assertEquals(5, new WorklistRemovalRule().apply(cells));
+        assertArrayEquals(new char[]{'X', 'X', 'X', 'X', 'X'}, cells[0]);
+        assertEquals(0, new WorklistRemovalRule().apply(new char[0][0]));
+    }
+}
@@ -3,7 +3,7 @@ package software.ulpgc.adventofcode2025.day10;
 import org.junit.jupiter.api.Test;
 import software.ulpgc.adventofcode2025.days.day10.solver.JoltageSolver;
 import software.ulpgc.adventofcode2025.days.day10.solver.LightConfigurationSolver;
-import software.ulpgc.adventofcode2025.days.day10.Machine;
+import software.ulpgc.adventofcode2025.days.day10.domain.Machine;
 import software.ulpgc.adventofcode2025.days.day10.solver.MachineSolver;
 
 import java.util.List;
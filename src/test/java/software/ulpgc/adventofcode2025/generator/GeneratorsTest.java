@@ -0,0 +1,49 @@
+package software.ulpgc.adventofcode2025.generator;
+
+import org.junit.jupiter.api.Test;
+import software.ulpgc.adventofcode2025.core.InputGenerator;
+import software.ulpgc.adventofcode2025.runner.DayRegistry;
+import software.ulpgc.adventofcode2025.runner.PuzzleDay;
+import software.ulpgc.adventofcode2025.runner.PuzzlePart;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratorsTest {
+
+    @Test
+    void should_have_a_generator_for_every_registered_day() {
+        for (PuzzleDay<?> day : DayRegistry.all()) {
+            assertTrue(Generators.day(day.number()).isPresent(), "Missing generator for day " + day.number());
+        }
+        assertTrue(Generators.day(13).isEmpty());
+    }
+
+    @Test
+    void should_generate_the_same_input_for_the_same_seed() {
+        for (PuzzleDay<?> day : DayRegistry.all()) {
+            InputGenerator generator = Generators.day(day.number()).orElseThrow();
+
+            assertEquals(generator.generate(20, 7L), generator.generate(20, 7L), "Day " + day.number());
+            // Un seed diverso deve produrre un input diverso
+            assertNotEquals(generator.generate(20, 7L), generator.generate(20, 8L), "Day " + day.number());
+        }
+    }
+
+    @Test
+    void should_generate_inputs_that_every_day_can_map_and_solve() {
+        for (PuzzleDay<?> day : DayRegistry.all()) {
+            assertSolves(day, Generators.day(day.number()).orElseThrow().generate(20, 42L));
+        }
+    }
+
+    private static <T> void assertSolves(PuzzleDay<T> day, List<String> lines) {
+        assertFalse(lines.isEmpty(), "Day " + day.number());
+        T input = day.mapper().map(lines);
+        for (PuzzlePart<T> part : day.parts()) {
+            // Ogni parte deve terminare senza eccezioni sull'input generato
+            assertDoesNotThrow(() -> part.solve(input), "Day " + day.number() + " " + part.name());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package software.ulpgc.adventofcode2025.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.runner.ConcurrentDayRunner;
+import software.ulpgc.adventofcode2025.runner.PuzzleDay;
+import software.ulpgc.adventofcode2025.runner.PuzzlePart;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRecorderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_measure_the_allocations_of_a_phase() {
+        MetricsRecorder recorder = new MetricsRecorder();
+
+        int length = recorder.record(1, "Part one", () -> new long[1_000_000].length);
+
+        PhaseMetrics metrics = recorder.phases().getFirst();
+        assertEquals(1_000_000, length);
+        assertEquals("Part one", metrics.phase());
+        // L'array da 8 MB deve comparire tra i byte allocati dal thread
+        assertTrue(metrics.allocatedBytes() == -1 || metrics.allocatedBytes() >= 8_000_000);
+        assertTrue(metrics.peakHeapBytes() > 0);
+        assertEquals(metrics.peakHeapBytes(), recorder.peakHeapBytes());
+    }
+
+    @Test
+    void should_measure_the_peak_of_memory_released_inside_the_phase() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        int size = 64 << 20;
+
+        long sum = recorder.record(1, "Part one", () -> {
+            byte[] workingSet = new byte[size];
+            workingSet[size - 1] = 1;
+            long total = workingSet[0] + workingSet[size - 1];
+            workingSet = null;
+            // Dopo la raccolta il campione finale non vede più l'array: il picco deve venire dalla GC
+            System.gc();
+            return total;
+        });
+
+        assertEquals(1, sum);
+        assertTrue(recorder.phases().getFirst().peakHeapBytes() >= size);
+    }
+
+    @Test
+    void should_not_reset_the_peak_usage_of_the_heap_pools() {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        long[] before = pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).toArray();
+
+        new MetricsRecorder().record(1, "Part one", () -> 0);
+
+        // I picchi sono condivisi da tutta la JVM: una fase non deve mai abbassarli
+        for (int i = 0; i < pools.size(); i++) {
+            assertTrue(pools.get(i).getPeakUsage().getUsed() >= before[i], pools.get(i).getName());
+        }
+    }
+
+    @Test
+    void should_record_read_map_and_solve_phases_of_every_day() throws IOException {
+        Files.writeString(dir.resolve("numbers.txt"), "1\n2\n3\n");
+        InputMapper<List<Long>> numbers = lines -> lines.stream().map(Long::parseLong).toList();
+        PuzzleDay<List<Long>> day = PuzzleDay.of(7, "numbers.txt", numbers,
+                new PuzzlePart<>("Sum", input -> input.stream().mapToLong(Long::longValue).sum()));
+        MetricsRecorder recorder = new MetricsRecorder();
+
+        try (ConcurrentDayRunner runner = new ConcurrentDayRunner(new InputProvider(dir.toString(), null), 1, recorder)) {
+            runner.run(List.of(day));
+        }
+
+        assertEquals(List.of("read", "map", "Sum"), recorder.phases().stream().map(PhaseMetrics::phase).toList());
+        Path report = dir.resolve("metrics.json");
+        recorder.writeJson(report);
+        assertTrue(Files.readString(report).contains("{\"day\": 7, \"phase\": \"Sum\", \"wallNanos\": "));
+    }
+}
@@ -0,0 +1,98 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.ResultCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_solve_every_file_and_report_failures() throws IOException {
+        for (int i = 1; i <= 20; i++) {
+            Files.writeString(dir.resolve("input_" + i + ".txt"), i + "\n" + i + "\n");
+        }
+        Files.writeString(dir.resolve("broken.txt"), "not a number\n");
+        InputMapper<List<Long>> numbers = lines -> lines.stream().map(Long::parseLong).toList();
+        PuzzleDay<List<Long>> day = PuzzleDay.of(1, "unused.txt", numbers,
+                new PuzzlePart<>("Sum", input -> input.stream().mapToLong(Long::longValue).sum()));
+
+        List<BatchResult> results = new ArrayList<>();
+        BatchSummary summary;
+        try (BatchRunner runner = new BatchRunner(2, 1)) {
+            summary = runner.run(day, BatchRunner.files(dir.toString()), results::add);
+        }
+
+        // Ogni file produce un risultato, anche quello non valido
+        assertEquals(21, summary.files());
+        assertEquals(1, summary.failures());
+        assertEquals(21, results.size());
+        assertEquals(420, results.stream().filter(BatchResult::succeeded)
+                .mapToLong(result -> result.answers().getFirst().value()).sum());
+    }
+
+    @Test
+    void cached_contents_should_not_be_mapped_again() throws IOException {
+        for (int i = 1; i <= 6; i++) {
+            Files.writeString(dir.resolve("input_" + i + ".txt"), (i % 2) + "\n5\n");
+        }
+        AtomicInteger mappings = new AtomicInteger();
+        InputMapper<List<Long>> numbers = lines -> {
+            mappings.incrementAndGet();
+            return lines.stream().map(Long::parseLong).toList();
+        };
+        PuzzleDay<List<Long>> day = PuzzleDay.of(1, "unused.txt", numbers,
+                new PuzzlePart<>("Sum", Long.class, input -> input.stream().mapToLong(Long::longValue).sum()));
+
+        ResultCache cache = new ResultCache(16, null);
+        List<BatchResult> first = new ArrayList<>();
+        List<BatchResult> second = new ArrayList<>();
+        try (BatchRunner runner = new BatchRunner(1, 1, cache)) {
+            runner.run(day, BatchRunner.files(dir.toString()), first::add);
+            int mapped = mappings.get();
+            runner.run(day, BatchRunner.files(dir.toString()), second::add);
+
+            // Il secondo passaggio legge i file solo per l'hash e risponde dalla cache
+            assertEquals(mapped, mappings.get());
+        }
+        assertEquals(33, first.stream().mapToLong(result -> result.answers().getFirst().value()).sum());
+        assertEquals(33, second.stream().mapToLong(result -> result.answers().getFirst().value()).sum());
+    }
+
+    @Test
+    void should_select_files_with_a_glob() throws IOException {
+        Files.createDirectories(dir.resolve("day08"));
+        Files.writeString(dir.resolve("day08/a.txt"), "");
+        Files.writeString(dir.resolve("day08/b.txt"), "");
+        Files.writeString(dir.resolve("day08/notes.md"), "");
+
+        List<Path> files = BatchRunner.files(dir + "/day08/*.txt");
+
+        assertEquals(List.of(dir.resolve("day08/a.txt"), dir.resolve("day08/b.txt")), files);
+    }
+
+    @Test
+    void double_star_glob_should_also_match_no_directory() throws IOException {
+        Files.createDirectories(dir.resolve("corpus/day08"));
+        Files.writeString(dir.resolve("corpus/top.txt"), "");
+        Files.writeString(dir.resolve("corpus/day08/a.txt"), "");
+        Files.writeString(dir.resolve("corpus/day08/notes.md"), "");
+
+        // "**/" deve includere anche i file direttamente nella cartella base
+        List<Path> files = BatchRunner.files(dir + "/corpus/**/*.txt");
+
+        assertEquals(List.of(dir.resolve("corpus/day08/a.txt"), dir.resolve("corpus/top.txt")), files);
+    }
+}
@@ -0,0 +1,65 @@
+package software.ulpgc.adventofcode2025.runner;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.ulpgc.adventofcode2025.core.InputMapper;
+import software.ulpgc.adventofcode2025.core.InputProvider;
+import software.ulpgc.adventofcode2025.core.ResultCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDayRunnerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_solve_days_concurrently_and_isolate_failures() throws IOException {
+        Files.writeString(dir.resolve("numbers.txt"), "1\n2\n3\n");
+        InputMapper<List<Long>> numbers = lines -> lines.stream().map(Long::parseLong).toList();
+
+        PuzzleDay<List<Long>> sums = PuzzleDay.of(1, "numbers.txt", numbers,
+                new PuzzlePart<>("Sum", input -> input.stream().mapToLong(Long::longValue).sum()),
+                new PuzzlePart<>("Max", input -> input.stream().mapToLong(Long::longValue).max().orElse(0)));
+        PuzzleDay<List<Long>> missing = PuzzleDay.of(2, "missing.txt", numbers,
+                new PuzzlePart<>("Sum", input -> input.size()));
+
+        List<DayResult> results;
+        try (ConcurrentDayRunner runner = new ConcurrentDayRunner(new InputProvider(dir.toString(), null), 2)) {
+            results = runner.run(List.of(sums, missing));
+        }
+
+        assertEquals(List.of(new DayResult.Answer("Sum", 6), new DayResult.Answer("Max", 3)), results.get(0).answers());
+        assertFalse(results.get(1).succeeded());
+    }
+
+    @Test
+    void cached_answers_should_skip_mapping_and_solving() throws IOException {
+        Files.writeString(dir.resolve("numbers.txt"), "1\n2\n3\n");
+        AtomicInteger mappings = new AtomicInteger();
+        InputMapper<List<Long>> numbers = lines -> {
+            mappings.incrementAndGet();
+            return lines.stream().map(Long::parseLong).toList();
+        };
+        PuzzleDay<List<Long>> day = PuzzleDay.of(1, "numbers.txt", numbers,
+                new PuzzlePart<>("Sum", Long.class, input -> input.stream().mapToLong(Long::longValue).sum()));
+        ResultCache cache = new ResultCache(16, null);
+
+        List<DayResult> first;
+        List<DayResult> second;
+        try (ConcurrentDayRunner runner = new ConcurrentDayRunner(new InputProvider(dir.toString(), null), 1, null, cache)) {
+            first = runner.run(List.of(day));
+            second = runner.run(List.of(day));
+        }
+
+        // La seconda esecuzione usa la cache senza rileggere l'input
+        assertEquals(first.getFirst().answers(), second.getFirst().answers());
+        assertEquals(1, mappings.get());
+    }
+}